@@ -0,0 +1,419 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.function.IntPredicate;
+
+/**
+ * Un arreglo de enteros que crece y que se guarda en memoria directa, por fuera del heap de Java.
+ *
+ * Esta clase no lleva la cuenta de cuántas posiciones están ocupadas: igual que con un int[], quien la usa (SandboxArreglos) guarda la cantidad y se la pasa a las
+ * operaciones que la necesitan.
+ *
+ * La memoria directa se libera cuando el recolector de basura descarta el buffer, no cuando el buffer deja de usarse.
+ *
+ * El buffer también puede estar respaldado por un archivo mapeado en modo de sólo lectura. En ese caso la primera operación que modifica los enteros los copia
+ * antes a memoria directa, así que el archivo nunca se modifica. Lo mismo pasa con las vistas de sólo lectura creadas con crearVista: si se va a modificar
+ * alguna de las posiciones que ve una vista, los enteros se copian antes a un buffer nuevo.
+ */
+final class BufferEnteros
+{
+    /**
+     * Cantidad máxima de enteros que caben en un ByteBuffer directo, cuya capacidad en bytes es un int
+     */
+    static final int CAPACIDAD_MAXIMA = Integer.MAX_VALUE / Integer.BYTES;
+
+    /**
+     * Tamaño de las partes de un ordenamiento por debajo del cual se usa ordenamiento por inserción
+     */
+    private static final int UMBRAL_INSERCION = 32;
+
+    /**
+     * Los enteros. Los buffers que reserva esta clase usan el orden nativo de la máquina; los que vienen de un archivo usan el orden del archivo.
+     */
+    private IntBuffer enteros;
+
+    /**
+     * Cantidad de posiciones iniciales del buffer que comparten las vistas creadas con crearVista. Antes de escribir en alguna de esas posiciones hay que
+     * copiar los enteros.
+     */
+    private int compartidos;
+
+    /**
+     * Crea un buffer con la capacidad indicada
+     * @param capacidad La cantidad de enteros que puede guardar el buffer sin crecer
+     */
+    BufferEnteros( int capacidad )
+    {
+        enteros = reservar( capacidad );
+    }
+
+    /**
+     * Crea un buffer que usa directamente el IntBuffer recibido, sin copiarlo
+     * @param enteros El IntBuffer con los enteros. Su posición debe ser 0. Puede ser de sólo lectura.
+     */
+    BufferEnteros( IntBuffer enteros )
+    {
+        this.enteros = enteros;
+    }
+
+    /**
+     * Reserva un IntBuffer en memoria directa
+     * @param capacidad La cantidad de enteros que debe poder guardar
+     * @return El nuevo IntBuffer
+     * @throws OutOfMemoryError Si la capacidad excede lo que puede guardar un ByteBuffer
+     */
+    private static IntBuffer reservar( int capacidad )
+    {
+        if( capacidad < 0 || capacidad > CAPACIDAD_MAXIMA )
+        {
+            throw new OutOfMemoryError( "La capacidad requerida excede el tamaño máximo de un buffer directo" );
+        }
+        return ByteBuffer.allocateDirect( capacidad * Integer.BYTES ).order( ByteOrder.nativeOrder( ) ).asIntBuffer( );
+    }
+
+    /**
+     * Si los enteros están en un buffer de sólo lectura (por ejemplo un archivo mapeado), o si alguna vista comparte la posición 'desde' o alguna de las
+     * siguientes, copia los enteros a un buffer nuevo en memoria directa para poder modificarlos
+     * @param desde La primera posición que se va a modificar
+     */
+    private void prepararEscritura( int desde )
+    {
+        if( enteros.isReadOnly( ) || desde < compartidos )
+        {
+            cambiarCapacidad( enteros.capacity( ), enteros.capacity( ) );
+        }
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de las primeras 'cantidad' posiciones, sin copiarlas. Los cambios posteriores al buffer no se ven en la vista.
+     * @param cantidad La cantidad de posiciones ocupadas
+     * @return Un IntBuffer de sólo lectura, con posición 0 y límite 'cantidad'
+     */
+    IntBuffer crearVista( int cantidad )
+    {
+        IntBuffer vista = enteros.duplicate( );
+        vista.limit( cantidad );
+        vista.position( 0 );
+        compartidos = Math.max( compartidos, cantidad );
+        return vista.slice( ).asReadOnlyBuffer( );
+    }
+
+    /**
+     * Retorna el IntBuffer donde se guardan los enteros, listo para ser modificado
+     * @return El IntBuffer
+     */
+    IntBuffer getEnteros( )
+    {
+        prepararEscritura( 0 );
+        return enteros;
+    }
+
+    /**
+     * Retorna la cantidad de enteros que caben en el buffer sin que tenga que crecer
+     * @return La capacidad del buffer
+     */
+    int capacidad( )
+    {
+        return enteros.capacity( );
+    }
+
+    /**
+     * Cambia la capacidad del buffer, conservando las primeras 'cantidad' posiciones
+     * @param cantidad La cantidad de posiciones ocupadas
+     * @param capacidad La nueva capacidad. Debe ser mayor o igual a la cantidad.
+     */
+    void cambiarCapacidad( int cantidad, int capacidad )
+    {
+        IntBuffer nuevo = reservar( capacidad );
+        IntBuffer ocupados = enteros.duplicate( );
+        ocupados.limit( cantidad );
+        nuevo.put( ocupados );
+        nuevo.clear( );
+        enteros = nuevo;
+        compartidos = 0;
+    }
+
+    /**
+     * Retorna el entero en una posición
+     * @param posicion La posición
+     * @return El entero
+     */
+    int leer( int posicion )
+    {
+        return enteros.get( posicion );
+    }
+
+    /**
+     * Cambia el entero en una posición
+     * @param posicion La posición
+     * @param valor El nuevo valor
+     */
+    void escribir( int posicion, int valor )
+    {
+        prepararEscritura( posicion );
+        enteros.put( posicion, valor );
+    }
+
+    /**
+     * Copia enteros del buffer a un arreglo
+     * @param desde La posición del buffer donde empieza la copia
+     * @param destino El arreglo donde se copian los enteros
+     * @param posicionDestino La posición del arreglo donde se copia el primer entero
+     * @param cantidad La cantidad de enteros que se copian
+     */
+    void copiarA( int desde, int[] destino, int posicionDestino, int cantidad )
+    {
+        IntBuffer origen = enteros.duplicate( );
+        origen.position( desde );
+        origen.get( destino, posicionDestino, cantidad );
+    }
+
+    /**
+     * Copia enteros del buffer a otro IntBuffer
+     * @param desde La posición del buffer donde empieza la copia
+     * @param destino El IntBuffer donde se copian los enteros, a partir de su posición actual. Su posición avanza en 'cantidad'.
+     * @param cantidad La cantidad de enteros que se copian
+     */
+    void copiarA( int desde, IntBuffer destino, int cantidad )
+    {
+        IntBuffer origen = enteros.duplicate( );
+        origen.limit( desde + cantidad );
+        origen.position( desde );
+        destino.put( origen );
+    }
+
+    /**
+     * Copia enteros de un arreglo al buffer
+     * @param origen El arreglo del que se copian los enteros
+     * @param desde La posición del arreglo donde empieza la copia
+     * @param posicion La posición del buffer donde se copia el primer entero
+     * @param cantidad La cantidad de enteros que se copian
+     */
+    void copiarDe( int[] origen, int desde, int posicion, int cantidad )
+    {
+        prepararEscritura( posicion );
+        IntBuffer destino = enteros.duplicate( );
+        destino.position( posicion );
+        destino.put( origen, desde, cantidad );
+    }
+
+    /**
+     * Mueve un bloque de enteros dentro del buffer. Los bloques de origen y destino pueden superponerse.
+     * @param desde La posición donde empieza el bloque
+     * @param hacia La posición donde debe quedar el bloque
+     * @param cantidad La cantidad de enteros del bloque
+     */
+    void mover( int desde, int hacia, int cantidad )
+    {
+        prepararEscritura( hacia );
+        if( hacia > desde )
+        {
+            for( int i = cantidad - 1; i >= 0; i-- )
+            {
+                enteros.put( hacia + i, enteros.get( desde + i ) );
+            }
+        }
+        else if( hacia < desde )
+        {
+            for( int i = 0; i < cantidad; i++ )
+            {
+                enteros.put( hacia + i, enteros.get( desde + i ) );
+            }
+        }
+    }
+
+    /**
+     * Elimina de las primeras 'cantidad' posiciones todos los valores que cumplen la condición, compactando los demás hacia el comienzo
+     * @param cantidad La cantidad de posiciones ocupadas
+     * @param condicion La condición que cumplen los valores que se eliminan
+     * @return La nueva cantidad de posiciones ocupadas
+     */
+    int eliminarSi( int cantidad, IntPredicate condicion )
+    {
+        prepararEscritura( 0 );
+        int escritura = 0;
+        for( int i = 0; i < cantidad; i++ )
+        {
+            int valor = enteros.get( i );
+            if( !condicion.test( valor ) )
+            {
+                enteros.put( escritura++, valor );
+            }
+        }
+        return escritura;
+    }
+
+    /**
+     * Cuenta cuántas veces aparece un valor en las primeras 'cantidad' posiciones
+     * @param cantidad La cantidad de posiciones ocupadas
+     * @param valor El valor buscado
+     * @return La cantidad de apariciones
+     */
+    int contar( int cantidad, int valor )
+    {
+        int apariciones = 0;
+        for( int i = 0; i < cantidad; i++ )
+        {
+            if( enteros.get( i ) == valor )
+            {
+                apariciones++;
+            }
+        }
+        return apariciones;
+    }
+
+    /**
+     * Busca las posiciones donde aparece un valor entre las primeras 'cantidad' posiciones
+     * @param cantidad La cantidad de posiciones ocupadas
+     * @param valor El valor buscado
+     * @return Un arreglo con las posiciones, en orden
+     */
+    int[] buscar( int cantidad, int valor )
+    {
+        int[] posiciones = new int[contar( cantidad, valor )];
+        int indice = 0;
+        for( int i = 0; indice < posiciones.length; i++ )
+        {
+            if( enteros.get( i ) == valor )
+            {
+                posiciones[ indice++ ] = i;
+            }
+        }
+        return posiciones;
+    }
+
+    /**
+     * Calcula el menor y el mayor valor entre las primeras 'cantidad' posiciones
+     * @param cantidad La cantidad de posiciones ocupadas. Debe ser mayor a 0.
+     * @return Un arreglo con el mínimo y el máximo
+     */
+    int[] calcularRango( int cantidad )
+    {
+        int minimo = enteros.get( 0 );
+        int maximo = minimo;
+        for( int i = 1; i < cantidad; i++ )
+        {
+            int valor = enteros.get( i );
+            if( valor < minimo )
+            {
+                minimo = valor;
+            }
+            if( valor > maximo )
+            {
+                maximo = valor;
+            }
+        }
+        return new int[]{ minimo, maximo };
+    }
+
+    /**
+     * Cambia el signo de los valores negativos entre las primeras 'cantidad' posiciones
+     * @param cantidad La cantidad de posiciones ocupadas
+     * @return True si algún valor cambió
+     */
+    boolean volverPositivos( int cantidad )
+    {
+        prepararEscritura( 0 );
+        boolean cambio = false;
+        for( int i = 0; i < cantidad; i++ )
+        {
+            int valor = enteros.get( i );
+            if( valor < 0 )
+            {
+                enteros.put( i, -valor );
+                cambio = true;
+            }
+        }
+        return cambio;
+    }
+
+    /**
+     * Ordena de menor a mayor las primeras 'cantidad' posiciones sin usar memoria adicional.
+     *
+     * Se usa quicksort con partición en tres partes (menores, iguales y mayores al pivote), que se comporta bien con muchos valores repetidos, y ordenamiento por
+     * inserción para las partes pequeñas. Siempre se hace recursión sobre la parte más pequeña para que la pila no pase de O(log N).
+     * @param cantidad La cantidad de posiciones ocupadas
+     */
+    void ordenar( int cantidad )
+    {
+        prepararEscritura( 0 );
+        ordenar( 0, cantidad - 1 );
+    }
+
+    /**
+     * Ordena las posiciones entre 'bajo' y 'alto' (inclusive)
+     * @param bajo La primera posición
+     * @param alto La última posición
+     */
+    private void ordenar( int bajo, int alto )
+    {
+        while( alto - bajo >= UMBRAL_INSERCION )
+        {
+            int pivote = medianaDeTres( enteros.get( bajo ), enteros.get( ( bajo + alto ) >>> 1 ), enteros.get( alto ) );
+            int menores = bajo;
+            int actual = bajo;
+            int mayores = alto;
+            while( actual <= mayores )
+            {
+                int valor = enteros.get( actual );
+                if( valor < pivote )
+                {
+                    intercambiar( menores++, actual++ );
+                }
+                else if( valor > pivote )
+                {
+                    intercambiar( actual, mayores-- );
+                }
+                else
+                {
+                    actual++;
+                }
+            }
+            if( menores - bajo < alto - mayores )
+            {
+                ordenar( bajo, menores - 1 );
+                bajo = mayores + 1;
+            }
+            else
+            {
+                ordenar( mayores + 1, alto );
+                alto = menores - 1;
+            }
+        }
+        for( int i = bajo + 1; i <= alto; i++ )
+        {
+            int valor = enteros.get( i );
+            int j = i - 1;
+            while( j >= bajo && enteros.get( j ) > valor )
+            {
+                enteros.put( j + 1, enteros.get( j ) );
+                j--;
+            }
+            enteros.put( j + 1, valor );
+        }
+    }
+
+    /**
+     * Intercambia los valores de dos posiciones
+     */
+    private void intercambiar( int i, int j )
+    {
+        int temporal = enteros.get( i );
+        enteros.put( i, enteros.get( j ) );
+        enteros.put( j, temporal );
+    }
+
+    /**
+     * Retorna el valor del medio entre tres valores
+     */
+    private static int medianaDeTres( int a, int b, int c )
+    {
+        if( a < b )
+        {
+            return b < c ? b : ( a < c ? c : a );
+        }
+        return a < c ? a : ( b < c ? c : b );
+    }
+}
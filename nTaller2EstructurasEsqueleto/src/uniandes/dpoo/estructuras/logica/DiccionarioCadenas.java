@@ -0,0 +1,117 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+
+/**
+ * Un diccionario que le asigna un código entero a cada cadena diferente, para guardar un arreglo de cadenas muy repetitivo como un arreglo de códigos.
+ *
+ * Los códigos se asignan en el orden en que aparecen las cadenas, empezando en 0, y nunca cambian: el diccionario sólo crece. La cadena null también puede
+ * tener un código.
+ */
+final class DiccionarioCadenas
+{
+    /**
+     * El orden que se usa para organizar las cadenas, con las cadenas null al comienzo
+     */
+    private static final Comparator<String> ORDEN = Comparator.nullsFirst( String.CASE_INSENSITIVE_ORDER );
+
+    /**
+     * El código de cada cadena
+     */
+    private final HashMap<String, Integer> codigos = new HashMap<String, Integer>( );
+
+    /**
+     * Las cadenas, según su código. Sólo las primeras cantidadValores posiciones son válidas.
+     */
+    private String[] valores = new String[16];
+
+    /**
+     * La cantidad de cadenas diferentes en el diccionario
+     */
+    private int cantidadValores;
+
+    /**
+     * Retorna el código de una cadena, agregándola al diccionario si todavía no está
+     * @param cadena La cadena
+     * @return El código de la cadena
+     */
+    int codificar( String cadena )
+    {
+        Integer codigo = codigos.get( cadena );
+        if( codigo != null )
+        {
+            return codigo;
+        }
+        if( cantidadValores == valores.length )
+        {
+            valores = Arrays.copyOf( valores, cantidadValores * 2 );
+        }
+        valores[ cantidadValores ] = cadena;
+        codigos.put( cadena, cantidadValores );
+        return cantidadValores++;
+    }
+
+    /**
+     * Retorna la cadena que corresponde a un código
+     * @param codigo El código, que debe haber sido retornado por codificar
+     * @return La cadena
+     */
+    String decodificar( int codigo )
+    {
+        return valores[ codigo ];
+    }
+
+    /**
+     * Retorna la cantidad de cadenas diferentes en el diccionario, que es también el código que recibirá la próxima cadena nueva
+     * @return La cantidad de cadenas
+     */
+    int getCantidadValores( )
+    {
+        return cantidadValores;
+    }
+
+    /**
+     * Indica, para cada código, si su cadena es igual a la cadena recibida sin diferenciar entre mayúsculas y minúsculas. Con esto, buscar una cadena en el
+     * arreglo de códigos no requiere comparar cadenas.
+     * @param cadena La cadena buscada
+     * @return Un arreglo con una posición por código, en true para los códigos cuya cadena es igual a la buscada
+     */
+    boolean[] buscarCoincidencias( String cadena )
+    {
+        boolean[] coincidencias = new boolean[cantidadValores];
+        for( int codigo = 0; codigo < cantidadValores; codigo++ )
+        {
+            coincidencias[ codigo ] = valores[ codigo ] != null && valores[ codigo ].equalsIgnoreCase( cadena );
+        }
+        return coincidencias;
+    }
+
+    /**
+     * Calcula la posición que tendría cada código si las cadenas se organizaran lexicográficamente sin diferenciar entre mayúsculas y minúsculas. Las cadenas
+     * que son iguales según ese orden reciben la misma posición.
+     * @return Un arreglo con la posición de cada código
+     */
+    int[] calcularRangos( )
+    {
+        Integer[] ordenados = new Integer[cantidadValores];
+        for( int codigo = 0; codigo < cantidadValores; codigo++ )
+        {
+            ordenados[ codigo ] = codigo;
+        }
+        Arrays.sort( ordenados, ( a, b ) -> ORDEN.compare( valores[ a ], valores[ b ] ) );
+
+        int[] rangos = new int[cantidadValores];
+        int rango = 0;
+        for( int i = 0; i < cantidadValores; i++ )
+        {
+            if( i > 0 && ORDEN.compare( valores[ ordenados[ i - 1 ] ], valores[ ordenados[ i ] ] ) != 0 )
+            {
+                rango++;
+            }
+            rangos[ ordenados[ i ] ] = rango;
+        }
+        return rangos;
+    }
+}
@@ -0,0 +1,202 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Estadísticas de una colección de enteros que se actualizan con cada valor que se agrega o se quita, para poder consultarlas sin recorrer la colección.
+ *
+ * Se mantienen la frecuencia de cada valor, la cantidad de valores repetidos, la suma, el mínimo y el máximo. Cuando se quita la última aparición del mínimo
+ * o del máximo, el rango se marca como desactualizado y se recalcula a partir de las frecuencias la próxima vez que se consulte.
+ */
+final class EstadisticasEnteros
+{
+    /**
+     * La cantidad de veces que aparece cada valor
+     */
+    private final HistogramaEnteros frecuencias;
+
+    /**
+     * La cantidad total de valores
+     */
+    private int cantidad;
+
+    /**
+     * La cantidad de valores diferentes que aparecen más de una vez
+     */
+    private int repetidos;
+
+    /**
+     * La suma de todos los valores
+     */
+    private long suma;
+
+    /**
+     * El menor valor. Sólo es válido si extremosValidos es true.
+     */
+    private int minimo;
+
+    /**
+     * El mayor valor. Sólo es válido si extremosValidos es true.
+     */
+    private int maximo;
+
+    /**
+     * Indica si minimo y maximo corresponden a los valores actuales
+     */
+    private boolean extremosValidos;
+
+    /**
+     * Calcula las estadísticas de las primeras 'cantidad' posiciones de un arreglo
+     * @param valores El arreglo
+     * @param cantidad La cantidad de posiciones que se deben tener en cuenta
+     */
+    EstadisticasEnteros( int[] valores, int cantidad )
+    {
+        if( cantidad == 0 )
+        {
+            frecuencias = new HistogramaEnteros( );
+            return;
+        }
+        // La representación densa no aceptaría valores nuevos por fuera del rango, así que siempre se usa la dispersa
+        frecuencias = new HistogramaEnteros( );
+        minimo = valores[ 0 ];
+        maximo = valores[ 0 ];
+        for( int i = 0; i < cantidad; i++ )
+        {
+            int valor = valores[ i ];
+            frecuencias.agregar( valor );
+            suma += valor;
+            minimo = Math.min( minimo, valor );
+            maximo = Math.max( maximo, valor );
+        }
+        this.cantidad = cantidad;
+        repetidos = frecuencias.contarRepetidos( );
+        extremosValidos = true;
+    }
+
+    /**
+     * Registra un valor nuevo
+     * @param valor El valor
+     */
+    void agregar( int valor )
+    {
+        if( frecuencias.getCantidad( valor ) == 1 )
+        {
+            repetidos++;
+        }
+        frecuencias.agregar( valor );
+        suma += valor;
+        if( cantidad == 0 )
+        {
+            minimo = valor;
+            maximo = valor;
+            extremosValidos = true;
+        }
+        else if( extremosValidos )
+        {
+            minimo = Math.min( minimo, valor );
+            maximo = Math.max( maximo, valor );
+        }
+        cantidad++;
+    }
+
+    /**
+     * Registra que se quitó una aparición de un valor
+     * @param valor El valor
+     * @return True si el valor aparecía; false si no aparecía y por lo tanto no cambió nada
+     */
+    boolean quitar( int valor )
+    {
+        int anterior = frecuencias.getCantidad( valor );
+        if( anterior == 0 )
+        {
+            return false;
+        }
+        frecuencias.quitar( valor );
+        if( anterior == 2 )
+        {
+            repetidos--;
+        }
+        suma -= valor;
+        cantidad--;
+        if( anterior == 1 && ( valor == minimo || valor == maximo ) )
+        {
+            extremosValidos = false;
+        }
+        return true;
+    }
+
+    /**
+     * Registra que se quitaron todas las apariciones de un valor
+     * @param valor El valor
+     * @return La cantidad de apariciones que se quitaron
+     */
+    int quitarTodas( int valor )
+    {
+        int veces = frecuencias.getCantidad( valor );
+        for( int i = 0; i < veces; i++ )
+        {
+            quitar( valor );
+        }
+        return veces;
+    }
+
+    /**
+     * Retorna la cantidad de veces que aparece un valor
+     * @param valor El valor
+     * @return La cantidad de apariciones
+     */
+    int contar( int valor )
+    {
+        return frecuencias.getCantidad( valor );
+    }
+
+    /**
+     * Retorna la cantidad de valores diferentes que aparecen más de una vez
+     * @return La cantidad de valores repetidos
+     */
+    int contarRepetidos( )
+    {
+        return repetidos;
+    }
+
+    /**
+     * Retorna la suma de todos los valores
+     * @return La suma
+     */
+    long getSuma( )
+    {
+        return suma;
+    }
+
+    /**
+     * Retorna la cantidad de veces que aparece cada valor
+     * @return El histograma con las frecuencias. No debe modificarse.
+     */
+    HistogramaEnteros getFrecuencias( )
+    {
+        return frecuencias;
+    }
+
+    /**
+     * Retorna el menor y el mayor valor. Si el rango está desactualizado, lo recalcula recorriendo los valores diferentes.
+     * @return Un arreglo con el mínimo y el máximo, o un arreglo vacío si no hay valores
+     */
+    int[] calcularRango( )
+    {
+        if( cantidad == 0 )
+        {
+            return new int[]{};
+        }
+        if( !extremosValidos )
+        {
+            int[] rango = new int[]{ Integer.MAX_VALUE, Integer.MIN_VALUE };
+            frecuencias.recorrer( ( valor, veces ) -> {
+                rango[ 0 ] = Math.min( rango[ 0 ], valor );
+                rango[ 1 ] = Math.max( rango[ 1 ], valor );
+            } );
+            minimo = rango[ 0 ];
+            maximo = rango[ 1 ];
+            extremosValidos = true;
+        }
+        return new int[]{ minimo, maximo };
+    }
+}
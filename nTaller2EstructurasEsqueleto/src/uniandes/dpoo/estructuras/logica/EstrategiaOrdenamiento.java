@@ -0,0 +1,30 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Los algoritmos que se pueden usar para organizar un arreglo de enteros.
+ */
+public enum EstrategiaOrdenamiento
+{
+    /**
+     * Se escoge el algoritmo según la cantidad de enteros y el rango de sus valores: conteo si el rango es pequeño comparado con la cantidad, radix si hay muchos
+     * enteros, y el ordenamiento de la JDK en los demás casos.
+     */
+    AUTOMATICA,
+
+    /**
+     * Ordenamiento por conteo: cuenta cuántas veces aparece cada valor del rango y reescribe el arreglo. Toma O(N + rango) y necesita un arreglo del tamaño del
+     * rango, así que sólo sirve cuando el rango es pequeño.
+     */
+    CONTEO,
+
+    /**
+     * Ordenamiento radix LSD: ordena de a 8 bits, empezando por los menos significativos. Toma O(N) por cada byte que se necesita para representar el rango y
+     * necesita un arreglo auxiliar del tamaño del arreglo.
+     */
+    RADIX,
+
+    /**
+     * El ordenamiento de la JDK (Arrays.sort, o Arrays.parallelSort en modo paralelo).
+     */
+    JDK
+}
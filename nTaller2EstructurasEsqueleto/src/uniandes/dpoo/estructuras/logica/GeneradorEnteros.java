@@ -0,0 +1,304 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.nio.IntBuffer;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Esta clase agrupa los algoritmos para llenar arreglos de enteros con valores aleatorios, que usan SandboxArreglos y SandboxListas.
+ *
+ * Todos los métodos reciben el generador de números aleatorios, así que si se construye con una semilla los resultados se pueden reproducir.
+ */
+public final class GeneradorEnteros
+{
+    /**
+     * Cantidad de valores que se generan con cada generador derivado. Los arreglos se generan por bloques de este tamaño para que el resultado sea el mismo sin
+     * importar si los bloques se llenan en paralelo o no.
+     */
+    private static final int TAMANIO_BLOQUE = 1 << 14;
+
+    /**
+     * Esta clase sólo tiene métodos estáticos
+     */
+    private GeneradorEnteros( )
+    {
+    }
+
+    /**
+     * Llena las primeras 'cantidad' posiciones de un arreglo con valores tomados de una distribución uniforme entre 'minimo' y 'maximo' (inclusive).
+     *
+     * Cada bloque de valores se genera con un generador derivado del recibido por parámetro, así que con la misma semilla el resultado es el mismo tanto en secuencial
+     * como en paralelo.
+     * @param destino El arreglo que se va a llenar
+     * @param cantidad La cantidad de valores que se deben generar
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param aleatorio El generador de números aleatorios
+     * @param paralelo Indica si los bloques deben llenarse en paralelo. Si el método se llama desde un ForkJoinPool, se usan los hilos de ese pool.
+     * @throws IllegalArgumentException Si el mínimo es mayor al máximo
+     */
+    public static void llenarUniforme( int[] destino, int cantidad, int minimo, int maximo, SplittableRandom aleatorio, boolean paralelo )
+    {
+        verificarRango( minimo, maximo );
+        llenarPorBloques( cantidad, aleatorio, paralelo, ( generador, desde, hasta ) -> {
+            for( int i = desde; i < hasta; i++ )
+            {
+                destino[ i ] = siguienteEntero( generador, minimo, maximo );
+            }
+        } );
+    }
+
+    /**
+     * Llena las primeras 'cantidad' posiciones de un IntBuffer con valores tomados de una distribución uniforme entre 'minimo' y 'maximo' (inclusive).
+     *
+     * Con la misma semilla, el resultado es el mismo que el de llenarUniforme sobre un int[].
+     * @param destino El buffer que se va a llenar. Se escribe con posiciones absolutas, así que su posición no cambia.
+     * @param cantidad La cantidad de valores que se deben generar
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param aleatorio El generador de números aleatorios
+     * @param paralelo Indica si los bloques deben llenarse en paralelo
+     * @throws IllegalArgumentException Si el mínimo es mayor al máximo
+     */
+    public static void llenarUniforme( IntBuffer destino, int cantidad, int minimo, int maximo, SplittableRandom aleatorio, boolean paralelo )
+    {
+        verificarRango( minimo, maximo );
+        llenarPorBloques( cantidad, aleatorio, paralelo, ( generador, desde, hasta ) -> {
+            for( int i = desde; i < hasta; i++ )
+            {
+                destino.put( i, siguienteEntero( generador, minimo, maximo ) );
+            }
+        } );
+    }
+
+    /**
+     * Interfaz para las tareas que llenan un bloque de posiciones con un generador propio
+     */
+    private interface LlenadoBloque
+    {
+        /**
+         * Llena las posiciones entre 'desde' (inclusive) y 'hasta' (exclusive)
+         * @param generador El generador derivado que le corresponde al bloque
+         * @param desde La primera posición del bloque
+         * @param hasta La posición siguiente a la última del bloque
+         */
+        void llenar( SplittableRandom generador, int desde, int hasta );
+    }
+
+    /**
+     * Divide 'cantidad' posiciones en bloques de TAMANIO_BLOQUE, deriva un generador para cada bloque (siempre en el mismo orden) y ejecuta la tarea sobre cada uno.
+     * @param cantidad La cantidad de posiciones
+     * @param aleatorio El generador del que se derivan los generadores de cada bloque
+     * @param paralelo Indica si los bloques deben procesarse en paralelo
+     * @param tarea La tarea que llena cada bloque
+     */
+    private static void llenarPorBloques( int cantidad, SplittableRandom aleatorio, boolean paralelo, LlenadoBloque tarea )
+    {
+        int bloques = ( int )( ( ( long )cantidad + TAMANIO_BLOQUE - 1 ) / TAMANIO_BLOQUE );
+        SplittableRandom[] generadores = new SplittableRandom[bloques];
+        for( int i = 0; i < bloques; i++ )
+        {
+            generadores[ i ] = aleatorio.split( );
+        }
+
+        IntStream indicesBloques = IntStream.range( 0, bloques );
+        if( paralelo )
+        {
+            indicesBloques = indicesBloques.parallel( );
+        }
+        indicesBloques.forEach( bloque -> {
+            int desde = bloque * TAMANIO_BLOQUE;
+            int hasta = ( int )Math.min( cantidad, ( long )desde + TAMANIO_BLOQUE );
+            tarea.llenar( generadores[ bloque ], desde, hasta );
+        } );
+    }
+
+    /**
+     * Llena las primeras 'cantidad' posiciones de un arreglo con valores diferentes entre sí, escogidos al azar entre 'minimo' y 'maximo' (inclusive) y en orden
+     * aleatorio.
+     *
+     * Si la cantidad es cercana al tamaño del rango, se baraja parcialmente el rango completo; de lo contrario se generan valores y se descartan los repetidos.
+     * @param destino El arreglo que se va a llenar
+     * @param cantidad La cantidad de valores que se deben generar
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param aleatorio El generador de números aleatorios
+     * @throws IllegalArgumentException Si el mínimo es mayor al máximo o si en el rango no hay suficientes valores diferentes
+     */
+    public static void llenarDistintos( int[] destino, int cantidad, int minimo, int maximo, SplittableRandom aleatorio )
+    {
+        verificarRango( minimo, maximo );
+        long rango = ( long )maximo - minimo + 1;
+        if( cantidad > rango )
+        {
+            throw new IllegalArgumentException( "No hay " + cantidad + " valores diferentes entre " + minimo + " y " + maximo );
+        }
+
+        if( rango <= 2L * cantidad )
+        {
+            // Fisher-Yates parcial: sólo se barajan las primeras 'cantidad' posiciones del rango
+            int[] valores = new int[( int )rango];
+            for( int i = 0; i < valores.length; i++ )
+            {
+                valores[ i ] = minimo + i;
+            }
+            for( int i = 0; i < cantidad; i++ )
+            {
+                int j = aleatorio.nextInt( i, valores.length );
+                int temporal = valores[ i ];
+                valores[ i ] = valores[ j ];
+                valores[ j ] = temporal;
+            }
+            System.arraycopy( valores, 0, destino, 0, cantidad );
+            return;
+        }
+
+        // El rango tiene más del doble de valores de los que se necesitan, así que en promedio se descartan menos de la mitad de los valores generados
+        HistogramaEnteros generados = new HistogramaEnteros( );
+        int i = 0;
+        while( i < cantidad )
+        {
+            int valor = siguienteEntero( aleatorio, minimo, maximo );
+            if( generados.getCantidad( valor ) == 0 )
+            {
+                generados.agregar( valor );
+                destino[ i++ ] = valor;
+            }
+        }
+    }
+
+    /**
+     * Llena las primeras 'cantidad' posiciones de un arreglo con valores entre 'minimo' y 'maximo' (inclusive) que siguen una distribución de Zipf: el valor
+     * minimo + k - 1 aparece con una probabilidad proporcional a 1 / k^exponente. Es decir que los valores cercanos al mínimo son mucho más frecuentes.
+     *
+     * Los valores se generan con el método de rechazo-inversión de Hörmann y Derflinger, que no necesita memoria adicional sin importar el tamaño del rango.
+     * @param destino El arreglo que se va a llenar
+     * @param cantidad La cantidad de valores que se deben generar
+     * @param minimo El valor mínimo (y más frecuente) para los números generados
+     * @param maximo El valor máximo (y menos frecuente) para los números generados
+     * @param exponente El exponente de la distribución. Debe ser mayor a 0; entre más grande, más concentrados quedan los valores cerca del mínimo.
+     * @param aleatorio El generador de números aleatorios
+     * @throws IllegalArgumentException Si el mínimo es mayor al máximo o el exponente no es positivo
+     */
+    public static void llenarZipf( int[] destino, int cantidad, int minimo, int maximo, double exponente, SplittableRandom aleatorio )
+    {
+        verificarRango( minimo, maximo );
+        if( !( exponente > 0 ) )
+        {
+            throw new IllegalArgumentException( "El exponente de la distribución de Zipf debe ser mayor a 0" );
+        }
+        double elementos = ( double )maximo - minimo + 1;
+        double integralX1 = integralH( 1.5, exponente ) - 1;
+        double integralElementos = integralH( elementos + 0.5, exponente );
+        double s = 2 - inversaIntegralH( integralH( 2.5, exponente ) - h( 2, exponente ), exponente );
+
+        for( int i = 0; i < cantidad; i++ )
+        {
+            long k;
+            while( true )
+            {
+                double u = integralElementos + aleatorio.nextDouble( ) * ( integralX1 - integralElementos );
+                double x = inversaIntegralH( u, exponente );
+                k = ( long )( x + 0.5 );
+                if( k < 1 )
+                {
+                    k = 1;
+                }
+                else if( k > elementos )
+                {
+                    k = ( long )elementos;
+                }
+                if( k - x <= s || u >= integralH( k + 0.5, exponente ) - h( k, exponente ) )
+                {
+                    break;
+                }
+            }
+            destino[ i ] = ( int )( minimo + k - 1 );
+        }
+    }
+
+    /**
+     * Genera un entero uniforme entre 'minimo' y 'maximo' (inclusive), incluso si el máximo es Integer.MAX_VALUE
+     * @param aleatorio El generador de números aleatorios
+     * @param minimo El valor mínimo
+     * @param maximo El valor máximo
+     * @return El entero generado
+     */
+    static int siguienteEntero( SplittableRandom aleatorio, int minimo, int maximo )
+    {
+        if( maximo < Integer.MAX_VALUE )
+        {
+            return aleatorio.nextInt( minimo, maximo + 1 );
+        }
+        return ( int )aleatorio.nextLong( minimo, ( long )maximo + 1 );
+    }
+
+    /**
+     * Verifica que el rango [minimo, maximo] no esté invertido
+     * @param minimo El valor mínimo
+     * @param maximo El valor máximo
+     * @throws IllegalArgumentException Si el mínimo es mayor al máximo
+     */
+    private static void verificarRango( int minimo, int maximo )
+    {
+        if( minimo > maximo )
+        {
+            throw new IllegalArgumentException( "El mínimo (" + minimo + ") no puede ser mayor al máximo (" + maximo + ")" );
+        }
+    }
+
+    /**
+     * La función h(x) = 1 / x^exponente, cuya suma sobre los enteros define la distribución de Zipf
+     */
+    private static double h( double x, double exponente )
+    {
+        return Math.exp( -exponente * Math.log( x ) );
+    }
+
+    /**
+     * Una primitiva de h(x): (x^(1 - exponente) - 1) / (1 - exponente), o log(x) si el exponente es 1
+     */
+    private static double integralH( double x, double exponente )
+    {
+        double logX = Math.log( x );
+        return auxiliar2( ( 1 - exponente ) * logX ) * logX;
+    }
+
+    /**
+     * La inversa de integralH
+     */
+    private static double inversaIntegralH( double x, double exponente )
+    {
+        double t = x * ( 1 - exponente );
+        if( t < -1 )
+        {
+            // Corrige errores numéricos cerca del límite
+            t = -1;
+        }
+        return Math.exp( auxiliar1( t ) * x );
+    }
+
+    /**
+     * Calcula log(1 + x) / x de forma estable cuando x es cercano a 0
+     */
+    private static double auxiliar1( double x )
+    {
+        if( Math.abs( x ) > 1e-8 )
+        {
+            return Math.log1p( x ) / x;
+        }
+        return 1 - x * ( 0.5 - x * ( 1.0 / 3.0 - 0.25 * x ) );
+    }
+
+    /**
+     * Calcula (e^x - 1) / x de forma estable cuando x es cercano a 0
+     */
+    private static double auxiliar2( double x )
+    {
+        if( Math.abs( x ) > 1e-8 )
+        {
+            return Math.expm1( x ) / x;
+        }
+        return 1 + x * 0.5 * ( 1 + x * 1.0 / 3.0 * ( 1 + 0.25 * x ) );
+    }
+}
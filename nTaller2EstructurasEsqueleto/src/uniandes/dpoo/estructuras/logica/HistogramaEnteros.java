@@ -0,0 +1,446 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Esta clase representa un histograma de valores enteros: para cada valor se guarda la cantidad de veces que aparece.
+ *
+ * A diferencia de un HashMap<Integer, Integer>, el histograma trabaja directamente sobre tipos primitivos y no crea un objeto por cada valor ni por cada conteo.
+ *
+ * El histograma tiene dos representaciones internas:
+ * <ul>
+ * <li>Densa: cuando se conoce de antemano un rango estrecho [minimo, maximo], los conteos se guardan en un arreglo indexado por (valor - minimo).</li>
+ * <li>Dispersa: en cualquier otro caso se usa una tabla de hash con direccionamiento abierto y sondeo lineal.</li>
+ * </ul>
+ */
+public class HistogramaEnteros
+{
+    /**
+     * Interfaz para recorrer las parejas (valor, cantidad) de un histograma sin crear objetos
+     */
+    public interface Visitante
+    {
+        /**
+         * Procesa uno de los valores del histograma
+         * @param valor El valor
+         * @param cantidad La cantidad de veces que aparece el valor. Siempre es mayor a 0.
+         */
+        void visitar( int valor, int cantidad );
+    }
+
+    /**
+     * Capacidad inicial de la tabla de hash. Siempre debe ser una potencia de 2.
+     */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * Constante multiplicativa usada para dispersar los valores en la tabla de hash (parte fraccionaria de la razón áurea)
+     */
+    private static final int DISPERSION = 0x9E3779B9;
+
+    /**
+     * Si el histograma es denso, el valor que corresponde a la posición 0 de conteosDensos
+     */
+    private int minimo;
+
+    /**
+     * Los conteos de la representación densa, o null si el histograma es disperso
+     */
+    private int[] conteosDensos;
+
+    /**
+     * Las llaves de la tabla de hash. Una posición está libre si su conteo es 0.
+     */
+    private int[] llaves;
+
+    /**
+     * Los conteos de la tabla de hash, en las mismas posiciones que sus llaves
+     */
+    private int[] conteos;
+
+    /**
+     * La cantidad de valores diferentes en el histograma
+     */
+    private int cantidadValores;
+
+    /**
+     * Crea un histograma vacío con la representación dispersa
+     */
+    public HistogramaEnteros( )
+    {
+        llaves = new int[CAPACIDAD_INICIAL];
+        conteos = new int[CAPACIDAD_INICIAL];
+        cantidadValores = 0;
+    }
+
+    /**
+     * Crea un histograma vacío con la representación densa, que sólo puede contener valores dentro del rango [minimo, maximo].
+     * @param minimo El menor valor que puede agregarse
+     * @param maximo El mayor valor que puede agregarse
+     * @throws IllegalArgumentException Si el rango está invertido o es demasiado grande para un arreglo
+     */
+    public HistogramaEnteros( int minimo, int maximo )
+    {
+        long rango = ( long )maximo - minimo + 1;
+        if( rango <= 0 || rango > Integer.MAX_VALUE - 8 )
+        {
+            throw new IllegalArgumentException( "El rango [" + minimo + ", " + maximo + "] no es válido para un histograma denso" );
+        }
+        this.minimo = minimo;
+        conteosDensos = new int[( int )rango];
+        cantidadValores = 0;
+    }
+
+    /**
+     * Calcula el histograma de las primeras 'cantidad' posiciones de un arreglo.
+     *
+     * Si el rango [minimo, maximo] de los valores es estrecho comparado con la cantidad de valores, se usa la representación densa; de lo contrario se usa la dispersa.
+     * @param valores El arreglo con los valores
+     * @param cantidad La cantidad de posiciones del arreglo que se deben tener en cuenta
+     * @param minimo El menor valor que aparece en esas posiciones
+     * @param maximo El mayor valor que aparece en esas posiciones
+     * @return El histograma de los valores
+     */
+    public static HistogramaEnteros calcular( int[] valores, int cantidad, int minimo, int maximo )
+    {
+        HistogramaEnteros histograma;
+        if( cantidad > 0 && esRangoEstrecho( cantidad, minimo, maximo ) )
+        {
+            histograma = new HistogramaEnteros( minimo, maximo );
+        }
+        else
+        {
+            histograma = new HistogramaEnteros( );
+        }
+        for( int i = 0; i < cantidad; i++ )
+        {
+            histograma.agregar( valores[ i ] );
+        }
+        return histograma;
+    }
+
+    /**
+     * Indica si conviene usar la representación densa para 'cantidad' valores dentro del rango [minimo, maximo].
+     *
+     * La representación densa se usa cuando el arreglo de conteos no es mucho más grande que la tabla de hash que se necesitaría en el peor caso.
+     * @param cantidad La cantidad de valores
+     * @param minimo El menor valor
+     * @param maximo El mayor valor
+     * @return True si el rango es suficientemente estrecho
+     */
+    static boolean esRangoEstrecho( int cantidad, int minimo, int maximo )
+    {
+        long rango = ( long )maximo - minimo + 1;
+        return rango <= 2L * cantidad + CAPACIDAD_INICIAL;
+    }
+
+    /**
+     * Indica si el histograma usa la representación densa
+     * @return True si el histograma es denso
+     */
+    public boolean esDenso( )
+    {
+        return conteosDensos != null;
+    }
+
+    /**
+     * Registra una aparición más del valor
+     * @param valor El valor que se va a agregar
+     * @throws IllegalArgumentException Si el histograma es denso y el valor está fuera de su rango
+     */
+    public void agregar( int valor )
+    {
+        agregar( valor, 1 );
+    }
+
+    /**
+     * Registra varias apariciones del valor
+     * @param valor El valor que se va a agregar
+     * @param veces La cantidad de apariciones que se agregan. Debe ser mayor a 0.
+     * @throws IllegalArgumentException Si la cantidad de apariciones no es positiva, o si el histograma es denso y el valor está fuera de su rango
+     */
+    public void agregar( int valor, int veces )
+    {
+        if( veces <= 0 )
+        {
+            throw new IllegalArgumentException( "La cantidad de apariciones debe ser positiva: " + veces );
+        }
+        if( conteosDensos != null )
+        {
+            long posicion = ( long )valor - minimo;
+            if( posicion < 0 || posicion >= conteosDensos.length )
+            {
+                throw new IllegalArgumentException( "El valor " + valor + " está fuera del rango del histograma" );
+            }
+            if( conteosDensos[ ( int )posicion ] == 0 )
+            {
+                cantidadValores++;
+            }
+            conteosDensos[ ( int )posicion ] += veces;
+            return;
+        }
+
+        int mascara = llaves.length - 1;
+        int posicion = dispersar( valor ) & mascara;
+        while( conteos[ posicion ] != 0 )
+        {
+            if( llaves[ posicion ] == valor )
+            {
+                conteos[ posicion ] += veces;
+                return;
+            }
+            posicion = ( posicion + 1 ) & mascara;
+        }
+        llaves[ posicion ] = valor;
+        conteos[ posicion ] = veces;
+        cantidadValores++;
+        if( cantidadValores * 2 > llaves.length )
+        {
+            crecer( );
+        }
+    }
+
+    /**
+     * Descuenta una aparición del valor. Si el valor deja de aparecer, sale del histograma.
+     * @param valor El valor que se va a descontar
+     * @return True si el valor aparecía en el histograma; false si no aparecía y por lo tanto no se descontó nada
+     */
+    public boolean quitar( int valor )
+    {
+        if( conteosDensos != null )
+        {
+            long posicion = ( long )valor - minimo;
+            if( posicion < 0 || posicion >= conteosDensos.length || conteosDensos[ ( int )posicion ] == 0 )
+            {
+                return false;
+            }
+            if( --conteosDensos[ ( int )posicion ] == 0 )
+            {
+                cantidadValores--;
+            }
+            return true;
+        }
+
+        int mascara = llaves.length - 1;
+        int posicion = dispersar( valor ) & mascara;
+        while( conteos[ posicion ] != 0 )
+        {
+            if( llaves[ posicion ] == valor )
+            {
+                if( --conteos[ posicion ] == 0 )
+                {
+                    cantidadValores--;
+                    liberar( posicion );
+                }
+                return true;
+            }
+            posicion = ( posicion + 1 ) & mascara;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna la cantidad de veces que aparece un valor en el histograma
+     * @param valor El valor buscado
+     * @return La cantidad de apariciones del valor, o 0 si no aparece
+     */
+    public int getCantidad( int valor )
+    {
+        if( conteosDensos != null )
+        {
+            long posicion = ( long )valor - minimo;
+            if( posicion < 0 || posicion >= conteosDensos.length )
+            {
+                return 0;
+            }
+            return conteosDensos[ ( int )posicion ];
+        }
+
+        int mascara = llaves.length - 1;
+        int posicion = dispersar( valor ) & mascara;
+        while( conteos[ posicion ] != 0 )
+        {
+            if( llaves[ posicion ] == valor )
+            {
+                return conteos[ posicion ];
+            }
+            posicion = ( posicion + 1 ) & mascara;
+        }
+        return 0;
+    }
+
+    /**
+     * Retorna la cantidad de valores diferentes que hay en el histograma
+     * @return La cantidad de valores diferentes
+     */
+    public int getCantidadValores( )
+    {
+        return cantidadValores;
+    }
+
+    /**
+     * Cuenta cuántos valores diferentes aparecen más de una vez
+     * @return La cantidad de valores repetidos
+     */
+    public int contarRepetidos( )
+    {
+        int[] arregloConteos = conteosDensos != null ? conteosDensos : conteos;
+        int repetidos = 0;
+        for( int cantidad : arregloConteos )
+        {
+            if( cantidad > 1 )
+            {
+                repetidos++;
+            }
+        }
+        return repetidos;
+    }
+
+    /**
+     * Construye un histograma disperso que sólo contiene los valores que aparecen más de una vez, con sus cantidades
+     * @return Un nuevo histograma con los valores repetidos
+     */
+    public HistogramaEnteros getRepetidos( )
+    {
+        HistogramaEnteros repetidos = new HistogramaEnteros( );
+        recorrer( ( valor, cantidad ) -> {
+            if( cantidad > 1 )
+            {
+                repetidos.agregar( valor, cantidad );
+            }
+        } );
+        return repetidos;
+    }
+
+    /**
+     * Retorna una copia ordenada de los valores diferentes del histograma
+     * @return Un arreglo ordenado con los valores que aparecen al menos una vez
+     */
+    public int[] getValores( )
+    {
+        int[] valores = new int[cantidadValores];
+        int[] posicion = new int[1];
+        recorrer( ( valor, cantidad ) -> valores[ posicion[ 0 ]++ ] = valor );
+        Arrays.sort( valores );
+        return valores;
+    }
+
+    /**
+     * Recorre todas las parejas (valor, cantidad) del histograma. El orden del recorrido no está definido.
+     * @param visitante El objeto que procesa cada pareja
+     */
+    public void recorrer( Visitante visitante )
+    {
+        if( conteosDensos != null )
+        {
+            for( int i = 0; i < conteosDensos.length; i++ )
+            {
+                if( conteosDensos[ i ] != 0 )
+                {
+                    visitante.visitar( minimo + i, conteosDensos[ i ] );
+                }
+            }
+            return;
+        }
+        for( int i = 0; i < llaves.length; i++ )
+        {
+            if( conteos[ i ] != 0 )
+            {
+                visitante.visitar( llaves[ i ], conteos[ i ] );
+            }
+        }
+    }
+
+    /**
+     * Construye un mapa con el contenido del histograma, donde las llaves son los valores y los valores son la cantidad de veces que aparece cada uno
+     * @return Un nuevo mapa con el histograma
+     */
+    public HashMap<Integer, Integer> aMapa( )
+    {
+        HashMap<Integer, Integer> mapa = new HashMap<Integer, Integer>( cantidadValores * 4 / 3 + 1 );
+        recorrer( ( valor, cantidad ) -> mapa.put( valor, cantidad ) );
+        return mapa;
+    }
+
+    /**
+     * Duplica la capacidad de la tabla de hash y vuelve a ubicar todos los valores
+     */
+    private void crecer( )
+    {
+        int[] llavesAnteriores = llaves;
+        int[] conteosAnteriores = conteos;
+        llaves = new int[llavesAnteriores.length * 2];
+        conteos = new int[conteosAnteriores.length * 2];
+        int mascara = llaves.length - 1;
+        for( int i = 0; i < llavesAnteriores.length; i++ )
+        {
+            if( conteosAnteriores[ i ] != 0 )
+            {
+                int posicion = dispersar( llavesAnteriores[ i ] ) & mascara;
+                while( conteos[ posicion ] != 0 )
+                {
+                    posicion = ( posicion + 1 ) & mascara;
+                }
+                llaves[ posicion ] = llavesAnteriores[ i ];
+                conteos[ posicion ] = conteosAnteriores[ i ];
+            }
+        }
+    }
+
+    /**
+     * Libera una posición de la tabla de hash y desplaza hacia atrás los valores siguientes de la misma secuencia de sondeo, para que ninguna búsqueda se detenga
+     * antes de tiempo en la posición liberada.
+     * @param libre La posición que se acaba de quedar con conteo 0
+     */
+    private void liberar( int libre )
+    {
+        int mascara = llaves.length - 1;
+        int actual = ( libre + 1 ) & mascara;
+        while( conteos[ actual ] != 0 )
+        {
+            int ideal = dispersar( llaves[ actual ] ) & mascara;
+            // El valor en 'actual' puede ocupar la posición libre si su posición ideal no está entre la posición libre (exclusiva) y la actual (inclusiva)
+            if( ( ( actual - ideal ) & mascara ) >= ( ( actual - libre ) & mascara ) )
+            {
+                llaves[ libre ] = llaves[ actual ];
+                conteos[ libre ] = conteos[ actual ];
+                conteos[ actual ] = 0;
+                libre = actual;
+            }
+            actual = ( actual + 1 ) & mascara;
+        }
+    }
+
+    /**
+     * Calcula una huella de las primeras 'cantidad' posiciones de un arreglo que no depende del orden de los valores.
+     *
+     * Si dos arreglos tienen huellas diferentes, seguro no contienen los mismos valores. Si tienen la misma huella, es muy probable pero no seguro que los contengan.
+     * @param valores El arreglo con los valores
+     * @param cantidad La cantidad de posiciones del arreglo que se deben tener en cuenta
+     * @return La huella de los valores
+     */
+    public static long calcularHuella( int[] valores, int cantidad )
+    {
+        long suma = 0;
+        long sumaDispersa = 0;
+        for( int i = 0; i < cantidad; i++ )
+        {
+            int valor = valores[ i ];
+            suma += valor;
+            sumaDispersa += dispersar( valor );
+        }
+        return suma * 0x9E3779B97F4A7C15L + sumaDispersa;
+    }
+
+    /**
+     * Mezcla los bits de un valor para que valores consecutivos queden en posiciones separadas de la tabla
+     * @param valor El valor
+     * @return El valor dispersado
+     */
+    private static int dispersar( int valor )
+    {
+        int h = valor * DISPERSION;
+        return h ^ ( h >>> 16 );
+    }
+}
@@ -0,0 +1,184 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Un índice que, para cada cadena de un arreglo, guarda cuántas veces aparece y en qué posiciones, sin diferenciar entre mayúsculas y minúsculas.
+ *
+ * Las cadenas se guardan "plegadas": cada carácter se convierte a mayúscula y luego a minúscula, que es la misma comparación que hace String.equalsIgnoreCase. Así
+ * dos cadenas son iguales según equalsIgnoreCase si y sólo si sus versiones plegadas son iguales.
+ *
+ * El índice no se actualiza solo: SandboxArreglos lo descarta cuando el arreglo de cadenas cambia y lo vuelve a construir cuando lo necesita.
+ */
+final class IndiceCadenas
+{
+    /**
+     * Tamaño aproximado en bytes del encabezado de un objeto, suponiendo una JVM de 64 bits con referencias comprimidas
+     */
+    private static final int BYTES_ENCABEZADO = 12;
+
+    /**
+     * Tamaño aproximado en bytes de una referencia, suponiendo referencias comprimidas
+     */
+    private static final int BYTES_REFERENCIA = 4;
+
+    /**
+     * Las apariciones de una cadena plegada
+     */
+    private static final class Entrada
+    {
+        /**
+         * La cantidad de veces que aparece la cadena
+         */
+        private int cantidad;
+
+        /**
+         * Las posiciones donde aparece la cadena, en orden. Sólo las primeras 'cantidad' son válidas.
+         */
+        private int[] posiciones = new int[1];
+    }
+
+    /**
+     * Las entradas del índice, según la cadena plegada
+     */
+    private final HashMap<String, Entrada> entradas = new HashMap<String, Entrada>( );
+
+    /**
+     * Cantidad aproximada de bytes que ocupan las cadenas plegadas que tuvieron que crearse porque eran diferentes a las originales
+     */
+    private long bytesLlaves;
+
+    /**
+     * Crea un índice vacío. Las cadenas se registran con agregar.
+     */
+    IndiceCadenas( )
+    {
+    }
+
+    /**
+     * Registra que la cadena aparece en una posición. Las posiciones deben registrarse en orden creciente.
+     * @param cadena La cadena. Si es null, no se registra.
+     * @param posicion La posición donde aparece
+     */
+    void agregar( String cadena, int posicion )
+    {
+        if( cadena == null )
+        {
+            return;
+        }
+        String llave = plegar( cadena );
+        Entrada entrada = entradas.get( llave );
+        if( entrada == null )
+        {
+            entrada = new Entrada( );
+            entradas.put( llave, entrada );
+            if( llave != cadena )
+            {
+                bytesLlaves += calcularMemoriaCadena( llave );
+            }
+        }
+        if( entrada.cantidad == entrada.posiciones.length )
+        {
+            entrada.posiciones = Arrays.copyOf( entrada.posiciones, entrada.cantidad * 2 );
+        }
+        entrada.posiciones[ entrada.cantidad++ ] = posicion;
+    }
+
+    /**
+     * Retorna cuántas veces aparece una cadena, sin diferenciar entre mayúsculas y minúsculas
+     * @param cadena La cadena buscada
+     * @return La cantidad de apariciones
+     */
+    int contar( String cadena )
+    {
+        Entrada entrada = buscarEntrada( cadena );
+        return entrada == null ? 0 : entrada.cantidad;
+    }
+
+    /**
+     * Retorna las posiciones donde aparece una cadena, sin diferenciar entre mayúsculas y minúsculas
+     * @param cadena La cadena buscada
+     * @return Un arreglo nuevo con las posiciones en orden creciente. Si la cadena no aparece, el arreglo es de tamaño 0.
+     */
+    int[] buscar( String cadena )
+    {
+        Entrada entrada = buscarEntrada( cadena );
+        return entrada == null ? new int[0] : Arrays.copyOf( entrada.posiciones, entrada.cantidad );
+    }
+
+    /**
+     * Retorna la entrada de una cadena
+     * @param cadena La cadena buscada
+     * @return La entrada, o null si la cadena no aparece
+     */
+    private Entrada buscarEntrada( String cadena )
+    {
+        return cadena == null ? null : entradas.get( plegar( cadena ) );
+    }
+
+    /**
+     * Calcula una aproximación de la memoria que ocupa el índice, suponiendo una JVM de 64 bits con referencias comprimidas. No se cuentan las cadenas que son
+     * las mismas del arreglo indexado.
+     * @return La cantidad aproximada de bytes
+     */
+    long calcularMemoria( )
+    {
+        // HashMap con su tabla de tamaño potencia de 2 y factor de carga 0.75, y un nodo de 32 bytes por entrada
+        long tabla = Integer.highestOneBit( Math.max( 1, ( int )( entradas.size( ) / 0.75f ) ) * 2 - 1 );
+        long memoria = alinear( BYTES_ENCABEZADO + 6 * Integer.BYTES + 3 * BYTES_REFERENCIA ) + alinear( 16 + tabla * BYTES_REFERENCIA );
+        for( Entrada entrada : entradas.values( ) )
+        {
+            memoria += 32 + alinear( BYTES_ENCABEZADO + Integer.BYTES + BYTES_REFERENCIA ) + alinear( 16 + ( long )entrada.posiciones.length * Integer.BYTES );
+        }
+        return memoria + bytesLlaves;
+    }
+
+    /**
+     * Calcula una aproximación de la memoria que ocupa una cadena con su arreglo de caracteres
+     */
+    private static long calcularMemoriaCadena( String cadena )
+    {
+        return alinear( BYTES_ENCABEZADO + Integer.BYTES + BYTES_REFERENCIA ) + alinear( 16 + ( long )cadena.length( ) * Character.BYTES );
+    }
+
+    /**
+     * Redondea un tamaño al siguiente múltiplo de 8, que es como se alinean los objetos en la JVM
+     */
+    private static long alinear( long bytes )
+    {
+        return ( bytes + 7 ) & ~7L;
+    }
+
+    /**
+     * Retorna la versión plegada de una cadena. Si la cadena ya está plegada, se retorna la misma cadena sin crear una nueva.
+     * @param cadena La cadena
+     * @return La cadena plegada
+     */
+    static String plegar( String cadena )
+    {
+        int i = 0;
+        while( i < cadena.length( ) && plegar( cadena.charAt( i ) ) == cadena.charAt( i ) )
+        {
+            i++;
+        }
+        if( i == cadena.length( ) )
+        {
+            return cadena;
+        }
+        char[] caracteres = cadena.toCharArray( );
+        for( ; i < caracteres.length; i++ )
+        {
+            caracteres[ i ] = plegar( caracteres[ i ] );
+        }
+        return new String( caracteres );
+    }
+
+    /**
+     * Retorna la versión plegada de un carácter
+     */
+    private static char plegar( char caracter )
+    {
+        return Character.toLowerCase( Character.toUpperCase( caracter ) );
+    }
+}
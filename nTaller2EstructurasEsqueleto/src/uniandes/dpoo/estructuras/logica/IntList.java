@@ -0,0 +1,567 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Una lista de enteros que guarda los valores en un arreglo int[] que crece, en lugar de guardar un objeto Integer por cada valor.
+ *
+ * Implementa List<Integer> para poder usarse donde se espera una lista normal, pero los métodos getInt, setInt, addInt, removeIntAt y removeIntIf trabajan
+ * directamente con int y no crean objetos. Cada valor ocupa 4 bytes, mientras que en un ArrayList<Integer> ocupa una referencia más un objeto Integer de 16
+ * bytes.
+ *
+ * Los métodos snapshot y snapshotBuffer retornan vistas de sólo lectura que comparten el arreglo con la lista, sin copiarlo. Si después se modifica alguna de
+ * las posiciones que ve una vista, la lista copia antes su arreglo (copia en escritura), así que la vista conserva los valores que tenía cuando se creó.
+ *
+ * Con el modo de hueco activo (ver activarHueco), la capacidad libre del arreglo se deja en la posición donde se insertó o eliminó el último valor, en lugar
+ * de dejarla al final. Así, insertar o eliminar cerca de esa posición sólo mueve los valores que hay entre la posición anterior y la nueva. Las operaciones
+ * que recorren toda la lista primero mueven el hueco al final.
+ */
+public final class IntList extends AbstractList<Integer> implements RandomAccess
+{
+    /**
+     * Capacidad con la que se crea el arreglo cuando se agrega el primer valor
+     */
+    private static final int CAPACIDAD_INICIAL = 10;
+
+    /**
+     * Capacidad máxima del arreglo
+     */
+    private static final int CAPACIDAD_MAXIMA = Integer.MAX_VALUE - 8;
+
+    /**
+     * Los valores de la lista. Sólo las primeras 'cantidad' posiciones son válidas.
+     */
+    private int[] valores;
+
+    /**
+     * La cantidad de valores en la lista
+     */
+    private int cantidad;
+
+    /**
+     * Cantidad de posiciones iniciales del arreglo que comparten las vistas creadas con snapshot o snapshotBuffer. Antes de escribir en alguna de esas
+     * posiciones hay que copiar el arreglo.
+     */
+    private int compartidos;
+
+    /**
+     * Indica si addInt( posicion, valor ) y removeIntAt dejan el hueco en la posición modificada
+     */
+    private boolean hueco;
+
+    /**
+     * La posición lógica donde empieza el hueco. Sólo tiene sentido si tamanioHueco es mayor que 0.
+     */
+    private int inicioHueco;
+
+    /**
+     * La cantidad de posiciones libres del arreglo que hay entre el valor de la posición inicioHueco - 1 y el de la posición inicioHueco. Si es 0, los
+     * valores ocupan las primeras 'cantidad' posiciones del arreglo.
+     */
+    private int tamanioHueco;
+
+    /**
+     * Crea una lista vacía
+     */
+    public IntList( )
+    {
+        valores = new int[0];
+    }
+
+    /**
+     * Crea una lista vacía con la capacidad indicada
+     * @param capacidad La cantidad de valores que puede guardar la lista antes de tener que crecer
+     * @throws IllegalArgumentException Si la capacidad es negativa
+     */
+    public IntList( int capacidad )
+    {
+        if( capacidad < 0 )
+        {
+            throw new IllegalArgumentException( "La capacidad no puede ser negativa: " + capacidad );
+        }
+        valores = new int[capacidad];
+    }
+
+    /**
+     * Crea una lista con una copia de los valores de otra lista
+     * @param otra La lista que se copia
+     */
+    public IntList( IntList otra )
+    {
+        valores = otra.toIntArray( );
+        cantidad = otra.cantidad;
+    }
+
+    /**
+     * Crea una lista que usa directamente el arreglo recibido, sin copiarlo
+     * @param valores El arreglo
+     * @param cantidad La cantidad de posiciones válidas del arreglo
+     */
+    private IntList( int[] valores, int cantidad )
+    {
+        this.valores = valores;
+        this.cantidad = cantidad;
+    }
+
+    /**
+     * Retorna una vista de sólo lectura con los valores actuales de la lista, sin copiarlos. Los cambios posteriores a la lista no se ven en la vista.
+     * @return Una lista que no se puede modificar
+     */
+    public List<Integer> snapshot( )
+    {
+        cerrarHueco( );
+        compartidos = Math.max( compartidos, cantidad );
+        return Collections.unmodifiableList( new IntList( valores, cantidad ) );
+    }
+
+    /**
+     * Retorna un IntBuffer de sólo lectura con los valores actuales de la lista, sin copiarlos. Los cambios posteriores a la lista no se ven en el buffer.
+     * @return Un buffer de sólo lectura, con posición 0 y límite size( )
+     */
+    public IntBuffer snapshotBuffer( )
+    {
+        cerrarHueco( );
+        compartidos = Math.max( compartidos, cantidad );
+        return IntBuffer.wrap( valores, 0, cantidad ).slice( ).asReadOnlyBuffer( );
+    }
+
+    /**
+     * Activa el modo de hueco: a partir de ahora addInt( posicion, valor ) y removeIntAt dejan la capacidad libre del arreglo en la posición modificada, así
+     * que varias inserciones o eliminaciones seguidas cerca de la misma posición toman O(1) amortizado cada una en lugar de O(N)
+     */
+    public void activarHueco( )
+    {
+        hueco = true;
+    }
+
+    /**
+     * Desactiva el modo de hueco y deja la capacidad libre al final del arreglo
+     */
+    public void desactivarHueco( )
+    {
+        cerrarHueco( );
+        hueco = false;
+    }
+
+    /**
+     * Indica si el modo de hueco está activo
+     * @return True si el modo está activo
+     */
+    public boolean estaHuecoActivo( )
+    {
+        return hueco;
+    }
+
+    /**
+     * Retorna la posición del arreglo donde está el valor de una posición de la lista
+     * @param posicion La posición en la lista
+     * @return La posición en el arreglo
+     */
+    private int posicionEnArreglo( int posicion )
+    {
+        return posicion < inicioHueco ? posicion : posicion + tamanioHueco;
+    }
+
+    /**
+     * Mueve el hueco a una posición de la lista, desplazando los valores que hay entre la posición actual del hueco y la nueva
+     * @param posicion La nueva posición del hueco
+     */
+    private void moverHueco( int posicion )
+    {
+        if( tamanioHueco > 0 )
+        {
+            prepararEscritura( Math.min( posicion, inicioHueco ) );
+            if( posicion < inicioHueco )
+            {
+                System.arraycopy( valores, posicion, valores, posicion + tamanioHueco, inicioHueco - posicion );
+            }
+            else
+            {
+                System.arraycopy( valores, inicioHueco + tamanioHueco, valores, inicioHueco, posicion - inicioHueco );
+            }
+        }
+        inicioHueco = posicion;
+    }
+
+    /**
+     * Mueve el hueco al final de la lista, para que los valores queden en las primeras 'cantidad' posiciones del arreglo
+     */
+    private void cerrarHueco( )
+    {
+        if( tamanioHueco > 0 )
+        {
+            moverHueco( cantidad );
+            tamanioHueco = 0;
+        }
+    }
+
+    /**
+     * Copia el arreglo si alguna vista comparte la posición 'desde' o alguna de las siguientes, antes de escribir a partir de esa posición
+     * @param desde La primera posición que se va a modificar
+     */
+    private void prepararEscritura( int desde )
+    {
+        if( desde < compartidos )
+        {
+            int[] copia = new int[valores.length];
+            System.arraycopy( valores, 0, copia, 0, cantidad + tamanioHueco );
+            valores = copia;
+            compartidos = 0;
+        }
+    }
+
+    /**
+     * Retorna el valor en una posición
+     * @param posicion La posición
+     * @return El valor
+     * @throws IndexOutOfBoundsException Si la posición no existe en la lista
+     */
+    public int getInt( int posicion )
+    {
+        verificarPosicion( posicion );
+        return valores[ posicionEnArreglo( posicion ) ];
+    }
+
+    /**
+     * Cambia el valor en una posición
+     * @param posicion La posición
+     * @param valor El nuevo valor
+     * @return El valor que había antes en esa posición
+     * @throws IndexOutOfBoundsException Si la posición no existe en la lista
+     */
+    public int setInt( int posicion, int valor )
+    {
+        verificarPosicion( posicion );
+        int fisica = posicionEnArreglo( posicion );
+        prepararEscritura( fisica );
+        int anterior = valores[ fisica ];
+        valores[ fisica ] = valor;
+        return anterior;
+    }
+
+    /**
+     * Agrega un valor al final de la lista
+     * @param valor El valor
+     */
+    public void addInt( int valor )
+    {
+        cerrarHueco( );
+        asegurarCapacidad( cantidad + 1 );
+        prepararEscritura( cantidad );
+        valores[ cantidad++ ] = valor;
+        modCount++;
+    }
+
+    /**
+     * Inserta un valor en una posición, desplazando los valores siguientes
+     * @param posicion La posición donde debe quedar el valor, entre 0 y size( )
+     * @param valor El valor
+     * @throws IndexOutOfBoundsException Si la posición no está entre 0 y size( )
+     */
+    public void addInt( int posicion, int valor )
+    {
+        if( posicion < 0 || posicion > cantidad )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + cantidad );
+        }
+        if( hueco && ( posicion < cantidad || tamanioHueco > 0 ) )
+        {
+            insertarEnHueco( posicion, valor );
+            return;
+        }
+        cerrarHueco( );
+        asegurarCapacidad( cantidad + 1 );
+        prepararEscritura( posicion );
+        System.arraycopy( valores, posicion, valores, posicion + 1, cantidad - posicion );
+        valores[ posicion ] = valor;
+        cantidad++;
+        modCount++;
+    }
+
+    /**
+     * Agrega al final de la lista 'cuantos' valores de un arreglo, empezando en la posición 'desde'
+     * @param origen El arreglo del que se toman los valores
+     * @param desde La posición del primer valor
+     * @param cuantos La cantidad de valores
+     * @throws IndexOutOfBoundsException Si el rango no está dentro del arreglo
+     */
+    public void addInts( int[] origen, int desde, int cuantos )
+    {
+        if( desde < 0 || cuantos < 0 || desde > origen.length - cuantos )
+        {
+            throw new IndexOutOfBoundsException( "Rango [" + desde + ", " + desde + " + " + cuantos + ") fuera de un arreglo de tamaño " + origen.length );
+        }
+        cerrarHueco( );
+        asegurarCapacidad( cantidad + cuantos );
+        prepararEscritura( cantidad );
+        System.arraycopy( origen, desde, valores, cantidad, cuantos );
+        cantidad += cuantos;
+        modCount++;
+    }
+
+    /**
+     * Elimina el valor en una posición, desplazando los valores siguientes
+     * @param posicion La posición
+     * @return El valor eliminado
+     * @throws IndexOutOfBoundsException Si la posición no existe en la lista
+     */
+    public int removeIntAt( int posicion )
+    {
+        verificarPosicion( posicion );
+        if( hueco )
+        {
+            // El valor eliminado pasa a ser parte del hueco, así que no hay que desplazar los siguientes
+            moverHueco( posicion );
+            int eliminado = valores[ posicion + tamanioHueco ];
+            tamanioHueco++;
+            cantidad--;
+            modCount++;
+            return eliminado;
+        }
+        cerrarHueco( );
+        prepararEscritura( posicion );
+        int eliminado = valores[ posicion ];
+        System.arraycopy( valores, posicion + 1, valores, posicion, cantidad - posicion - 1 );
+        cantidad--;
+        modCount++;
+        return eliminado;
+    }
+
+    /**
+     * Inserta un valor en una posición dejando el hueco justo después del valor insertado. Si no hay hueco, se abre uno con toda la capacidad libre del
+     * arreglo.
+     * @param posicion La posición donde debe quedar el valor, entre 0 y size( ). Sólo puede ser size( ) si ya hay un hueco.
+     * @param valor El valor
+     */
+    private void insertarEnHueco( int posicion, int valor )
+    {
+        if( tamanioHueco == 0 )
+        {
+            asegurarCapacidad( cantidad + 1 );
+            prepararEscritura( posicion );
+            tamanioHueco = valores.length - cantidad;
+            System.arraycopy( valores, posicion, valores, posicion + tamanioHueco, cantidad - posicion );
+            inicioHueco = posicion;
+        }
+        else
+        {
+            moverHueco( posicion );
+        }
+        prepararEscritura( inicioHueco );
+        valores[ inicioHueco++ ] = valor;
+        tamanioHueco--;
+        cantidad++;
+        modCount++;
+    }
+
+    /**
+     * Elimina todos los valores que cumplen una condición, en un solo recorrido y conservando el orden de los demás
+     * @param condicion La condición
+     * @return True si se eliminó algún valor
+     */
+    public boolean removeIntIf( IntPredicate condicion )
+    {
+        cerrarHueco( );
+        prepararEscritura( 0 );
+        int escritura = 0;
+        for( int i = 0; i < cantidad; i++ )
+        {
+            int valor = valores[ i ];
+            if( !condicion.test( valor ) )
+            {
+                valores[ escritura++ ] = valor;
+            }
+        }
+        boolean cambio = escritura != cantidad;
+        if( cambio )
+        {
+            cantidad = escritura;
+            modCount++;
+        }
+        return cambio;
+    }
+
+    /**
+     * Reemplaza cada valor de la lista por el resultado de aplicarle una operación, sin crear objetos Integer
+     * @param operacion La operación
+     */
+    public void replaceAllInts( IntUnaryOperator operacion )
+    {
+        cerrarHueco( );
+        prepararEscritura( 0 );
+        for( int i = 0; i < cantidad; i++ )
+        {
+            valores[ i ] = operacion.applyAsInt( valores[ i ] );
+        }
+        modCount++;
+    }
+
+    /**
+     * Organiza los valores de menor a mayor sin crear objetos Integer.
+     * 
+     * El algoritmo (conteo, radix o el de la JDK) se escoge según la cantidad de valores y su rango, igual que en SandboxArreglos.organizarEnteros.
+     */
+    public void sortInts( )
+    {
+        if( cantidad < 2 )
+        {
+            return;
+        }
+        cerrarHueco( );
+        prepararEscritura( 0 );
+        int[] rango = KernelesEnteros.calcularRango( valores, 0, cantidad );
+        EstrategiaOrdenamiento estrategia = OrdenadorEnteros.escoger( cantidad, rango[ 0 ], rango[ 1 ] );
+        if( estrategia == EstrategiaOrdenamiento.CONTEO )
+        {
+            OrdenadorEnteros.ordenarPorConteo( valores, 0, cantidad, rango[ 0 ], rango[ 1 ] );
+        }
+        else if( estrategia == EstrategiaOrdenamiento.RADIX )
+        {
+            OrdenadorEnteros.ordenarRadix( valores, 0, cantidad, rango[ 0 ], rango[ 1 ] );
+        }
+        else
+        {
+            Arrays.sort( valores, 0, cantidad );
+        }
+        modCount++;
+    }
+
+    /**
+     * Invierte el orden de los valores de la lista
+     */
+    public void reverseInts( )
+    {
+        cerrarHueco( );
+        prepararEscritura( 0 );
+        for( int i = 0, j = cantidad - 1; i < j; i++, j-- )
+        {
+            int temporal = valores[ i ];
+            valores[ i ] = valores[ j ];
+            valores[ j ] = temporal;
+        }
+        modCount++;
+    }
+
+    /**
+     * Retorna un arreglo nuevo con los valores de la lista
+     * @return El arreglo
+     */
+    public int[] toIntArray( )
+    {
+        int[] copia = Arrays.copyOf( valores, cantidad );
+        if( tamanioHueco > 0 )
+        {
+            System.arraycopy( valores, inicioHueco + tamanioHueco, copia, inicioHueco, cantidad - inicioHueco );
+        }
+        return copia;
+    }
+
+    /**
+     * Retorna el arreglo donde la lista guarda sus valores, sin copiarlo. Sólo las primeras size( ) posiciones son válidas, y el arreglo deja de ser el de la
+     * lista si ésta crece. Si hay un hueco, primero se mueve al final.
+     * @return El arreglo interno
+     */
+    int[] getArregloInterno( )
+    {
+        cerrarHueco( );
+        return valores;
+    }
+
+    /**
+     * Asegura que la lista pueda guardar al menos 'capacidad' valores sin tener que crecer. Si crece, lo hace de forma geométrica.
+     * @param capacidad La capacidad mínima
+     */
+    public void asegurarCapacidad( int capacidad )
+    {
+        if( capacidad < 0 )
+        {
+            throw new OutOfMemoryError( "La capacidad requerida excede el tamaño máximo de un arreglo" );
+        }
+        if( capacidad > valores.length )
+        {
+            cerrarHueco( );
+            long nueva = Math.max( capacidad, Math.max( CAPACIDAD_INICIAL, valores.length + ( long )( valores.length >> 1 ) ) );
+            valores = Arrays.copyOf( valores, ( int )Math.min( nueva, Math.max( capacidad, CAPACIDAD_MAXIMA ) ) );
+            compartidos = 0;
+        }
+    }
+
+    /**
+     * Verifica que una posición exista en la lista
+     * @param posicion La posición
+     * @throws IndexOutOfBoundsException Si la posición no existe
+     */
+    private void verificarPosicion( int posicion )
+    {
+        if( posicion < 0 || posicion >= cantidad )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + cantidad );
+        }
+    }
+
+    @Override
+    public Integer get( int posicion )
+    {
+        return getInt( posicion );
+    }
+
+    @Override
+    public Integer set( int posicion, Integer valor )
+    {
+        return setInt( posicion, valor );
+    }
+
+    @Override
+    public void add( int posicion, Integer valor )
+    {
+        addInt( posicion, valor );
+    }
+
+    @Override
+    public boolean add( Integer valor )
+    {
+        addInt( valor );
+        return true;
+    }
+
+    @Override
+    public Integer remove( int posicion )
+    {
+        return removeIntAt( posicion );
+    }
+
+    @Override
+    public void sort( Comparator<? super Integer> comparador )
+    {
+        if( comparador == null )
+        {
+            sortInts( );
+        }
+        else
+        {
+            super.sort( comparador );
+        }
+    }
+
+    @Override
+    public int size( )
+    {
+        return cantidad;
+    }
+
+    @Override
+    public void clear( )
+    {
+        cantidad = 0;
+        tamanioHueco = 0;
+        modCount++;
+    }
+}
@@ -0,0 +1,102 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Recorridos sobre rangos de un arreglo de enteros, escritos para que el compilador JIT de la JVM los pueda vectorizar (procesar varios enteros con una sola
+ * instrucción SIMD).
+ *
+ * Para eso los ciclos no tienen condicionales que dependan de los datos: las comparaciones se convierten en operaciones aritméticas y los mínimos, máximos y
+ * valores absolutos se calculan con Math.min, Math.max y Math.abs, que la JVM reconoce. Todos los métodos trabajan sobre las posiciones entre 'desde'
+ * (inclusive) y 'hasta' (exclusive).
+ */
+final class KernelesEnteros
+{
+    /**
+     * Esta clase sólo tiene métodos estáticos
+     */
+    private KernelesEnteros( )
+    {
+    }
+
+    /**
+     * Cuenta cuántas veces aparece un valor en un rango del arreglo
+     * @param enteros El arreglo
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango
+     * @param valor El valor buscado
+     * @return La cantidad de apariciones
+     */
+    static int contar( int[] enteros, int desde, int hasta, int valor )
+    {
+        // (d | -d) >>> 31 es 1 si d es diferente de 0 y 0 si d es 0, así que se cuentan las posiciones diferentes sin usar condicionales
+        int diferentes = 0;
+        for( int i = desde; i < hasta; i++ )
+        {
+            int diferencia = enteros[ i ] ^ valor;
+            diferentes += ( diferencia | -diferencia ) >>> 31;
+        }
+        return hasta - desde - diferentes;
+    }
+
+    /**
+     * Busca las posiciones donde aparece un valor en un rango del arreglo
+     * @param enteros El arreglo
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango
+     * @param valor El valor buscado
+     * @return Un arreglo con las posiciones, en orden
+     */
+    static int[] buscar( int[] enteros, int desde, int hasta, int valor )
+    {
+        // Primero se cuenta con el recorrido vectorizable para crear el arreglo del tamaño exacto y parar apenas se encuentre la última aparición
+        int[] posiciones = new int[contar( enteros, desde, hasta, valor )];
+        int encontradas = 0;
+        for( int i = desde; encontradas < posiciones.length; i++ )
+        {
+            if( enteros[ i ] == valor )
+            {
+                posiciones[ encontradas++ ] = i;
+            }
+        }
+        return posiciones;
+    }
+
+    /**
+     * Cambia cada valor de un rango del arreglo por su valor absoluto
+     * @param enteros El arreglo
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango
+     * @return True si algún valor era negativo
+     */
+    static boolean volverPositivos( int[] enteros, int desde, int hasta )
+    {
+        // El bit de signo de 'negativos' queda en 1 si algún valor tenía el bit de signo en 1
+        int negativos = 0;
+        for( int i = desde; i < hasta; i++ )
+        {
+            int valor = enteros[ i ];
+            negativos |= valor;
+            enteros[ i ] = Math.abs( valor );
+        }
+        return negativos < 0;
+    }
+
+    /**
+     * Calcula el menor y el mayor valor de un rango del arreglo
+     * @param enteros El arreglo
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango. El rango no puede estar vacío.
+     * @return Un arreglo con el mínimo y el máximo
+     */
+    static int[] calcularRango( int[] enteros, int desde, int hasta )
+    {
+        int minimo = enteros[ desde ];
+        int maximo = minimo;
+        for( int i = desde + 1; i < hasta; i++ )
+        {
+            int valor = enteros[ i ];
+            minimo = Math.min( minimo, valor );
+            maximo = Math.max( maximo, valor );
+        }
+        return new int[]{ minimo, maximo };
+    }
+}
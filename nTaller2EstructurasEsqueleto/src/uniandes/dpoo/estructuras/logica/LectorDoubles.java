@@ -0,0 +1,114 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.PrimitiveIterator;
+
+/**
+ * Lee valores decimales de una fuente por bloques de tamaño fijo, para que quien los consume pueda convertirlos sin tener todos los valores en memoria al
+ * mismo tiempo.
+ */
+final class LectorDoubles
+{
+    /**
+     * Cantidad de valores de cada bloque
+     */
+    static final int TAMANIO_BLOQUE = 1 << 12;
+
+    /**
+     * Recibe los bloques de valores a medida que se leen
+     */
+    interface Consumidor
+    {
+        /**
+         * Procesa un bloque de valores. El arreglo se reutiliza para el siguiente bloque, así que no debe guardarse.
+         * @param valores El arreglo con los valores del bloque
+         * @param cantidad La cantidad de valores del bloque, que están en las primeras posiciones del arreglo
+         */
+        void procesar( double[] valores, int cantidad );
+    }
+
+    /**
+     * Esta clase sólo tiene métodos estáticos
+     */
+    private LectorDoubles( )
+    {
+    }
+
+    /**
+     * Lee todos los valores de un iterador, por bloques
+     * @param valores El iterador
+     * @param consumidor Quien recibe los bloques
+     */
+    static void leer( PrimitiveIterator.OfDouble valores, Consumidor consumidor )
+    {
+        double[] bloque = new double[TAMANIO_BLOQUE];
+        int cantidad = 0;
+        while( valores.hasNext( ) )
+        {
+            bloque[ cantidad++ ] = valores.nextDouble( );
+            if( cantidad == bloque.length )
+            {
+                consumidor.procesar( bloque, cantidad );
+                cantidad = 0;
+            }
+        }
+        if( cantidad > 0 )
+        {
+            consumidor.procesar( bloque, cantidad );
+        }
+    }
+
+    /**
+     * Lee todos los valores de un canal que contiene doubles de 8 bytes en orden little-endian, hasta llegar al final del canal
+     * @param canal El canal. No se cierra.
+     * @param consumidor Quien recibe los bloques
+     * @throws IOException Si hay un problema leyendo el canal o si el canal termina en medio de un valor
+     */
+    static void leer( ReadableByteChannel canal, Consumidor consumidor ) throws IOException
+    {
+        ByteBuffer bytes = ByteBuffer.allocateDirect( TAMANIO_BLOQUE * Double.BYTES ).order( ByteOrder.LITTLE_ENDIAN );
+        double[] bloque = new double[TAMANIO_BLOQUE];
+        boolean fin = false;
+        while( !fin )
+        {
+            while( bytes.hasRemaining( ) && !fin )
+            {
+                fin = canal.read( bytes ) < 0;
+            }
+            bytes.flip( );
+            int cantidad = bytes.remaining( ) / Double.BYTES;
+            bytes.asDoubleBuffer( ).get( bloque, 0, cantidad );
+            bytes.position( bytes.position( ) + cantidad * Double.BYTES );
+            if( cantidad > 0 )
+            {
+                consumidor.procesar( bloque, cantidad );
+            }
+            bytes.compact( );
+        }
+        if( bytes.position( ) != 0 )
+        {
+            throw new IOException( "El canal terminó en medio de un valor: sobraron " + bytes.position( ) + " bytes" );
+        }
+    }
+
+    /**
+     * Estima cuántos valores quedan en un canal, para reservar la memoria una sola vez
+     * @param canal El canal
+     * @return La cantidad de valores que quedan, si el canal permite saber su tamaño, o 0 si no
+     * @throws IOException Si hay un problema consultando el tamaño del canal
+     */
+    static int estimarCantidad( ReadableByteChannel canal ) throws IOException
+    {
+        if( canal instanceof SeekableByteChannel )
+        {
+            SeekableByteChannel buscable = ( SeekableByteChannel )canal;
+            long cantidad = ( buscable.size( ) - buscable.position( ) ) / Double.BYTES;
+            return ( int )Math.max( 0, Math.min( cantidad, Integer.MAX_VALUE - 8 ) );
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,663 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * Una lista que guarda sus elementos en bloques de a lo sumo 64 referencias, organizados como las hojas de un árbol B con conteos: cada nodo interno tiene
+ * hasta 64 hijos y guarda cuántos elementos hay debajo de cada uno.
+ *
+ * Consultar, cambiar, insertar o eliminar en cualquier posición baja por el árbol, que tiene altura O(log N) en base 64 (3 niveles para un millón de
+ * elementos), y mueve a lo sumo 64 referencias en cada nivel. Cuando un bloque se llena se divide en dos, y cuando queda casi vacío se une con un vecino. Las
+ * hojas están enlazadas entre sí, así que los recorridos avanzan bloque por bloque sobre arreglos contiguos, en lugar de saltar entre los nodos de una
+ * LinkedList.
+ * @param <E> El tipo de los elementos
+ */
+public final class ListaPorBloques<E> extends AbstractList<E> implements RandomAccess
+{
+    /**
+     * Cantidad máxima de elementos de una hoja y de hijos de un nodo interno
+     */
+    private static final int TAMANIO_BLOQUE = 64;
+
+    /**
+     * Tamaño por debajo del cual un nodo intenta unirse con un vecino
+     */
+    private static final int TAMANIO_MINIMO = TAMANIO_BLOQUE / 4;
+
+    /**
+     * Un nodo del árbol. Las hojas tienen elementos; los nodos internos tienen hijos y la cantidad de elementos debajo de cada hijo.
+     */
+    private static final class Nodo
+    {
+        /**
+         * Los elementos, si el nodo es una hoja, o null si es interno
+         */
+        private Object[] elementos;
+
+        /**
+         * Los hijos, si el nodo es interno, o null si es una hoja
+         */
+        private Nodo[] hijos;
+
+        /**
+         * La cantidad de elementos debajo de cada hijo, si el nodo es interno
+         */
+        private int[] conteos;
+
+        /**
+         * La cantidad de elementos (en una hoja) o de hijos (en un nodo interno)
+         */
+        private int tamanio;
+
+        /**
+         * La cantidad total de elementos debajo del nodo
+         */
+        private int total;
+
+        /**
+         * La hoja anterior, si el nodo es una hoja
+         */
+        private Nodo anterior;
+
+        /**
+         * La hoja siguiente, si el nodo es una hoja
+         */
+        private Nodo siguiente;
+
+        /**
+         * Crea una hoja vacía
+         * @return La hoja
+         */
+        private static Nodo crearHoja( )
+        {
+            Nodo hoja = new Nodo( );
+            hoja.elementos = new Object[TAMANIO_BLOQUE];
+            return hoja;
+        }
+
+        /**
+         * Crea un nodo interno sin hijos
+         * @return El nodo
+         */
+        private static Nodo crearInterno( )
+        {
+            Nodo interno = new Nodo( );
+            interno.hijos = new Nodo[TAMANIO_BLOQUE];
+            interno.conteos = new int[TAMANIO_BLOQUE];
+            return interno;
+        }
+
+        /**
+         * Indica si el nodo es una hoja
+         * @return True si es una hoja
+         */
+        private boolean esHoja( )
+        {
+            return hijos == null;
+        }
+    }
+
+    /**
+     * La raíz del árbol
+     */
+    private Nodo raiz;
+
+    /**
+     * Crea una lista vacía
+     */
+    public ListaPorBloques( )
+    {
+        raiz = Nodo.crearHoja( );
+    }
+
+    /**
+     * Busca la hoja que contiene una posición
+     * @param posicion La posición, entre 0 y size( ) - 1
+     * @param desplazamiento Un arreglo de una posición donde queda la posición del elemento dentro de la hoja
+     * @return La hoja
+     */
+    private Nodo buscarHoja( int posicion, int[] desplazamiento )
+    {
+        Nodo nodo = raiz;
+        int restante = posicion;
+        while( !nodo.esHoja( ) )
+        {
+            int i = 0;
+            while( restante >= nodo.conteos[ i ] )
+            {
+                restante -= nodo.conteos[ i ];
+                i++;
+            }
+            nodo = nodo.hijos[ i ];
+        }
+        desplazamiento[ 0 ] = restante;
+        return nodo;
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public E get( int posicion )
+    {
+        verificarPosicion( posicion );
+        int[] desplazamiento = new int[1];
+        Nodo hoja = buscarHoja( posicion, desplazamiento );
+        return ( E )hoja.elementos[ desplazamiento[ 0 ] ];
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public E set( int posicion, E elemento )
+    {
+        verificarPosicion( posicion );
+        int[] desplazamiento = new int[1];
+        Nodo hoja = buscarHoja( posicion, desplazamiento );
+        E anterior = ( E )hoja.elementos[ desplazamiento[ 0 ] ];
+        hoja.elementos[ desplazamiento[ 0 ] ] = elemento;
+        return anterior;
+    }
+
+    @Override
+    public boolean add( E elemento )
+    {
+        add( raiz.total, elemento );
+        return true;
+    }
+
+    @Override
+    public void add( int posicion, E elemento )
+    {
+        if( posicion < 0 || posicion > raiz.total )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + raiz.total );
+        }
+        Nodo nuevo = insertar( raiz, posicion, elemento );
+        if( nuevo != null )
+        {
+            // La raíz se dividió: el árbol crece un nivel
+            Nodo nuevaRaiz = Nodo.crearInterno( );
+            agregarHijo( nuevaRaiz, 0, raiz );
+            agregarHijo( nuevaRaiz, 1, nuevo );
+            raiz = nuevaRaiz;
+        }
+        modCount++;
+    }
+
+    /**
+     * Inserta un elemento debajo de un nodo
+     * @param nodo El nodo
+     * @param posicion La posición del elemento entre los elementos debajo del nodo
+     * @param elemento El elemento
+     * @return Si el nodo estaba lleno y tuvo que dividirse, el nodo nuevo que debe quedar a su derecha; de lo contrario null
+     */
+    private Nodo insertar( Nodo nodo, int posicion, Object elemento )
+    {
+        nodo.total++;
+        if( nodo.esHoja( ) )
+        {
+            if( nodo.tamanio < TAMANIO_BLOQUE )
+            {
+                insertarEnHoja( nodo, posicion, elemento );
+                return null;
+            }
+            Nodo derecha = Nodo.crearHoja( );
+            enlazarDespues( nodo, derecha );
+            if( posicion == TAMANIO_BLOQUE )
+            {
+                // Al insertar al final de un bloque lleno (por ejemplo al agregar al final de la lista) el bloque se deja lleno
+                nodo.total--;
+                insertarEnHoja( derecha, 0, elemento );
+                derecha.total = 1;
+                return derecha;
+            }
+            int mitad = TAMANIO_BLOQUE / 2;
+            System.arraycopy( nodo.elementos, mitad, derecha.elementos, 0, TAMANIO_BLOQUE - mitad );
+            Arrays.fill( nodo.elementos, mitad, TAMANIO_BLOQUE, null );
+            nodo.tamanio = mitad;
+            derecha.tamanio = TAMANIO_BLOQUE - mitad;
+            if( posicion <= mitad )
+            {
+                insertarEnHoja( nodo, posicion, elemento );
+            }
+            else
+            {
+                insertarEnHoja( derecha, posicion - mitad, elemento );
+            }
+            nodo.total = nodo.tamanio;
+            derecha.total = derecha.tamanio;
+            return derecha;
+        }
+
+        int i = 0;
+        while( i < nodo.tamanio - 1 && posicion > nodo.conteos[ i ] )
+        {
+            posicion -= nodo.conteos[ i ];
+            i++;
+        }
+        Nodo hijo = nodo.hijos[ i ];
+        Nodo nuevo = insertar( hijo, posicion, elemento );
+        nodo.conteos[ i ] = hijo.total;
+        if( nuevo == null )
+        {
+            return null;
+        }
+        if( nodo.tamanio < TAMANIO_BLOQUE )
+        {
+            agregarHijo( nodo, i + 1, nuevo );
+            nodo.total -= nuevo.total;
+            return null;
+        }
+
+        Nodo derecha = Nodo.crearInterno( );
+        if( i + 1 == TAMANIO_BLOQUE )
+        {
+            agregarHijo( derecha, 0, nuevo );
+        }
+        else
+        {
+            int mitad = TAMANIO_BLOQUE / 2;
+            for( int j = mitad; j < TAMANIO_BLOQUE; j++ )
+            {
+                agregarHijo( derecha, j - mitad, nodo.hijos[ j ] );
+                nodo.hijos[ j ] = null;
+            }
+            nodo.tamanio = mitad;
+            if( i + 1 <= mitad )
+            {
+                agregarHijo( nodo, i + 1, nuevo );
+            }
+            else
+            {
+                agregarHijo( derecha, i + 1 - mitad, nuevo );
+            }
+        }
+        recalcularTotal( nodo );
+        return derecha;
+    }
+
+    /**
+     * Inserta un elemento en una hoja que no está llena, sin cambiar su total
+     * @param hoja La hoja
+     * @param posicion La posición dentro de la hoja
+     * @param elemento El elemento
+     */
+    private static void insertarEnHoja( Nodo hoja, int posicion, Object elemento )
+    {
+        System.arraycopy( hoja.elementos, posicion, hoja.elementos, posicion + 1, hoja.tamanio - posicion );
+        hoja.elementos[ posicion ] = elemento;
+        hoja.tamanio++;
+    }
+
+    /**
+     * Agrega un hijo a un nodo interno que no está lleno, y suma sus elementos al total del nodo
+     * @param nodo El nodo
+     * @param posicion La posición del hijo nuevo
+     * @param hijo El hijo
+     */
+    private static void agregarHijo( Nodo nodo, int posicion, Nodo hijo )
+    {
+        System.arraycopy( nodo.hijos, posicion, nodo.hijos, posicion + 1, nodo.tamanio - posicion );
+        System.arraycopy( nodo.conteos, posicion, nodo.conteos, posicion + 1, nodo.tamanio - posicion );
+        nodo.hijos[ posicion ] = hijo;
+        nodo.conteos[ posicion ] = hijo.total;
+        nodo.tamanio++;
+        nodo.total += hijo.total;
+    }
+
+    /**
+     * Vuelve a calcular el total de un nodo interno a partir de los conteos de sus hijos
+     * @param nodo El nodo
+     */
+    private static void recalcularTotal( Nodo nodo )
+    {
+        int total = 0;
+        for( int i = 0; i < nodo.tamanio; i++ )
+        {
+            total += nodo.conteos[ i ];
+        }
+        nodo.total = total;
+    }
+
+    /**
+     * Enlaza una hoja nueva después de otra
+     * @param hoja La hoja que ya está en la lista de hojas
+     * @param nueva La hoja nueva
+     */
+    private static void enlazarDespues( Nodo hoja, Nodo nueva )
+    {
+        nueva.anterior = hoja;
+        nueva.siguiente = hoja.siguiente;
+        if( hoja.siguiente != null )
+        {
+            hoja.siguiente.anterior = nueva;
+        }
+        hoja.siguiente = nueva;
+    }
+
+    @Override
+    public E remove( int posicion )
+    {
+        verificarPosicion( posicion );
+        @SuppressWarnings( "unchecked" )
+        E eliminado = ( E )quitar( raiz, posicion );
+        while( !raiz.esHoja( ) && raiz.tamanio <= 1 )
+        {
+            // La raíz quedó con un solo hijo (o ninguno): el árbol pierde un nivel
+            raiz = raiz.tamanio == 1 ? raiz.hijos[ 0 ] : Nodo.crearHoja( );
+        }
+        modCount++;
+        return eliminado;
+    }
+
+    /**
+     * Elimina un elemento debajo de un nodo
+     * @param nodo El nodo
+     * @param posicion La posición del elemento entre los elementos debajo del nodo
+     * @return El elemento eliminado
+     */
+    private Object quitar( Nodo nodo, int posicion )
+    {
+        nodo.total--;
+        if( nodo.esHoja( ) )
+        {
+            Object eliminado = nodo.elementos[ posicion ];
+            nodo.tamanio--;
+            System.arraycopy( nodo.elementos, posicion + 1, nodo.elementos, posicion, nodo.tamanio - posicion );
+            nodo.elementos[ nodo.tamanio ] = null;
+            return eliminado;
+        }
+
+        int i = 0;
+        while( posicion >= nodo.conteos[ i ] )
+        {
+            posicion -= nodo.conteos[ i ];
+            i++;
+        }
+        Nodo hijo = nodo.hijos[ i ];
+        Object eliminado = quitar( hijo, posicion );
+        nodo.conteos[ i ]--;
+        if( hijo.tamanio < TAMANIO_MINIMO )
+        {
+            int vecino = i + 1 < nodo.tamanio ? i + 1 : i - 1;
+            if( vecino >= 0 && hijo.tamanio + nodo.hijos[ vecino ].tamanio <= TAMANIO_BLOQUE / 2 )
+            {
+                unir( nodo, Math.min( i, vecino ) );
+            }
+            else if( hijo.tamanio == 0 )
+            {
+                quitarHijo( nodo, i );
+            }
+        }
+        return eliminado;
+    }
+
+    /**
+     * Une dos hijos vecinos de un nodo interno en el primero de ellos
+     * @param nodo El nodo
+     * @param posicion La posición del primero de los dos hijos
+     */
+    private static void unir( Nodo nodo, int posicion )
+    {
+        Nodo izquierda = nodo.hijos[ posicion ];
+        Nodo derecha = nodo.hijos[ posicion + 1 ];
+        if( izquierda.esHoja( ) )
+        {
+            System.arraycopy( derecha.elementos, 0, izquierda.elementos, izquierda.tamanio, derecha.tamanio );
+            izquierda.tamanio += derecha.tamanio;
+        }
+        else
+        {
+            System.arraycopy( derecha.hijos, 0, izquierda.hijos, izquierda.tamanio, derecha.tamanio );
+            System.arraycopy( derecha.conteos, 0, izquierda.conteos, izquierda.tamanio, derecha.tamanio );
+            izquierda.tamanio += derecha.tamanio;
+        }
+        izquierda.total += derecha.total;
+        nodo.conteos[ posicion ] = izquierda.total;
+        quitarHijo( nodo, posicion + 1 );
+    }
+
+    /**
+     * Quita un hijo de un nodo interno, sin cambiar el total del nodo. Si el hijo es una hoja, también la saca de la lista de hojas.
+     * @param nodo El nodo
+     * @param posicion La posición del hijo
+     */
+    private static void quitarHijo( Nodo nodo, int posicion )
+    {
+        Nodo hijo = nodo.hijos[ posicion ];
+        if( hijo.esHoja( ) )
+        {
+            if( hijo.anterior != null )
+            {
+                hijo.anterior.siguiente = hijo.siguiente;
+            }
+            if( hijo.siguiente != null )
+            {
+                hijo.siguiente.anterior = hijo.anterior;
+            }
+        }
+        nodo.tamanio--;
+        System.arraycopy( nodo.hijos, posicion + 1, nodo.hijos, posicion, nodo.tamanio - posicion );
+        System.arraycopy( nodo.conteos, posicion + 1, nodo.conteos, posicion, nodo.tamanio - posicion );
+        nodo.hijos[ nodo.tamanio ] = null;
+    }
+
+    /**
+     * Reemplaza el contenido de la lista por los primeros 'cantidad' elementos de un arreglo, construyendo el árbol de abajo hacia arriba con bloques llenos
+     * @param elementos El arreglo
+     * @param cantidad La cantidad de elementos
+     */
+    private void construir( Object[] elementos, int cantidad )
+    {
+        Nodo[] nivel = new Nodo[Math.max( 1, ( cantidad + TAMANIO_BLOQUE - 1 ) / TAMANIO_BLOQUE )];
+        for( int h = 0; h < nivel.length; h++ )
+        {
+            Nodo hoja = Nodo.crearHoja( );
+            int desde = h * TAMANIO_BLOQUE;
+            hoja.tamanio = Math.max( 0, Math.min( TAMANIO_BLOQUE, cantidad - desde ) );
+            hoja.total = hoja.tamanio;
+            System.arraycopy( elementos, desde, hoja.elementos, 0, hoja.tamanio );
+            if( h > 0 )
+            {
+                enlazarDespues( nivel[ h - 1 ], hoja );
+            }
+            nivel[ h ] = hoja;
+        }
+        while( nivel.length > 1 )
+        {
+            Nodo[] superior = new Nodo[( nivel.length + TAMANIO_BLOQUE - 1 ) / TAMANIO_BLOQUE];
+            for( int j = 0; j < nivel.length; j++ )
+            {
+                if( j % TAMANIO_BLOQUE == 0 )
+                {
+                    superior[ j / TAMANIO_BLOQUE ] = Nodo.crearInterno( );
+                }
+                Nodo padre = superior[ j / TAMANIO_BLOQUE ];
+                agregarHijo( padre, padre.tamanio, nivel[ j ] );
+            }
+            nivel = superior;
+        }
+        raiz = nivel[ 0 ];
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public boolean removeIf( Predicate<? super E> condicion )
+    {
+        // Se copian los elementos que quedan y se reconstruye el árbol, en O(N) en lugar de eliminar uno por uno
+        Object[] quedan = new Object[raiz.total];
+        int cantidad = 0;
+        for( Nodo hoja = primeraHoja( ); hoja != null; hoja = hoja.siguiente )
+        {
+            for( int i = 0; i < hoja.tamanio; i++ )
+            {
+                if( !condicion.test( ( E )hoja.elementos[ i ] ) )
+                {
+                    quedan[ cantidad++ ] = hoja.elementos[ i ];
+                }
+            }
+        }
+        if( cantidad == raiz.total )
+        {
+            return false;
+        }
+        construir( quedan, cantidad );
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public void sort( Comparator<? super E> comparador )
+    {
+        Object[] elementos = toArray( );
+        Arrays.sort( elementos, ( Comparator<Object> )comparador );
+        construir( elementos, elementos.length );
+    }
+
+    @Override
+    public Object[] toArray( )
+    {
+        Object[] elementos = new Object[raiz.total];
+        int escritura = 0;
+        for( Nodo hoja = primeraHoja( ); hoja != null; hoja = hoja.siguiente )
+        {
+            System.arraycopy( hoja.elementos, 0, elementos, escritura, hoja.tamanio );
+            escritura += hoja.tamanio;
+        }
+        return elementos;
+    }
+
+    /**
+     * Retorna la hoja que tiene los primeros elementos de la lista
+     * @return La primera hoja
+     */
+    private Nodo primeraHoja( )
+    {
+        Nodo nodo = raiz;
+        while( !nodo.esHoja( ) )
+        {
+            nodo = nodo.hijos[ 0 ];
+        }
+        return nodo;
+    }
+
+    @Override
+    public Iterator<E> iterator( )
+    {
+        return new Recorrido( );
+    }
+
+    @Override
+    public int size( )
+    {
+        return raiz.total;
+    }
+
+    @Override
+    public void clear( )
+    {
+        raiz = Nodo.crearHoja( );
+        modCount++;
+    }
+
+    /**
+     * Verifica que una posición exista en la lista
+     * @param posicion La posición
+     * @throws IndexOutOfBoundsException Si la posición no existe
+     */
+    private void verificarPosicion( int posicion )
+    {
+        if( posicion < 0 || posicion >= raiz.total )
+        {
+            throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + raiz.total );
+        }
+    }
+
+    /**
+     * Un iterador que avanza hoja por hoja sin bajar por el árbol
+     */
+    private final class Recorrido implements Iterator<E>
+    {
+        /**
+         * La posición del siguiente elemento en la lista
+         */
+        private int siguiente;
+
+        /**
+         * La hoja del siguiente elemento
+         */
+        private Nodo hoja = primeraHoja( );
+
+        /**
+         * La posición del siguiente elemento dentro de su hoja
+         */
+        private int desplazamiento;
+
+        /**
+         * La posición del último elemento retornado, o -1 si no se puede eliminar
+         */
+        private int ultimo = -1;
+
+        /**
+         * El valor de modCount que se espera, para detectar cambios que no se hicieron a través del iterador
+         */
+        private int modificacionesEsperadas = modCount;
+
+        @Override
+        public boolean hasNext( )
+        {
+            return siguiente < raiz.total;
+        }
+
+        @Override
+        @SuppressWarnings( "unchecked" )
+        public E next( )
+        {
+            if( modCount != modificacionesEsperadas )
+            {
+                throw new ConcurrentModificationException( );
+            }
+            if( siguiente >= raiz.total )
+            {
+                throw new NoSuchElementException( );
+            }
+            if( desplazamiento == hoja.tamanio )
+            {
+                hoja = hoja.siguiente;
+                desplazamiento = 0;
+            }
+            ultimo = siguiente++;
+            return ( E )hoja.elementos[ desplazamiento++ ];
+        }
+
+        @Override
+        public void remove( )
+        {
+            if( ultimo < 0 )
+            {
+                throw new IllegalStateException( );
+            }
+            if( modCount != modificacionesEsperadas )
+            {
+                throw new ConcurrentModificationException( );
+            }
+            ListaPorBloques.this.remove( ultimo );
+            // Eliminar puede unir hojas, así que se vuelve a buscar la hoja del elemento siguiente
+            siguiente = ultimo;
+            ultimo = -1;
+            modificacionesEsperadas = modCount;
+            if( siguiente < raiz.total )
+            {
+                int[] posicion = new int[1];
+                hoja = buscarHoja( siguiente, posicion );
+                desplazamiento = posicion[ 0 ];
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+
+/**
+ * Los algoritmos de ordenamiento de enteros que no se basan en comparaciones, y la forma de escoger entre ellos y el ordenamiento de la JDK.
+ *
+ * Todos los métodos trabajan sobre las posiciones entre 'desde' (inclusive) y 'hasta' (exclusive) de un arreglo, y reciben el mínimo y el máximo de esas
+ * posiciones.
+ */
+final class OrdenadorEnteros
+{
+    /**
+     * Cantidad de enteros por debajo de la cual la estrategia automática siempre usa el ordenamiento de la JDK
+     */
+    private static final int UMBRAL_SIN_COMPARACIONES = 256;
+
+    /**
+     * Cantidad de enteros a partir de la cual la estrategia automática usa radix cuando el rango es muy grande para conteo
+     */
+    private static final int UMBRAL_RADIX = 1 << 16;
+
+    /**
+     * Tamaño máximo del arreglo de conteos
+     */
+    private static final long RANGO_MAXIMO_CONTEO = Integer.MAX_VALUE - 8;
+
+    /**
+     * Esta clase sólo tiene métodos estáticos
+     */
+    private OrdenadorEnteros( )
+    {
+    }
+
+    /**
+     * Escoge el algoritmo que usa la estrategia automática
+     * @param cantidad La cantidad de enteros que se van a ordenar
+     * @param minimo El menor valor
+     * @param maximo El mayor valor
+     * @return CONTEO, RADIX o JDK
+     */
+    static EstrategiaOrdenamiento escoger( int cantidad, int minimo, int maximo )
+    {
+        if( cantidad < UMBRAL_SIN_COMPARACIONES )
+        {
+            return EstrategiaOrdenamiento.JDK;
+        }
+        long rango = ( long )maximo - minimo + 1;
+        if( rango <= cantidad )
+        {
+            return EstrategiaOrdenamiento.CONTEO;
+        }
+        if( cantidad >= UMBRAL_RADIX )
+        {
+            return EstrategiaOrdenamiento.RADIX;
+        }
+        return EstrategiaOrdenamiento.JDK;
+    }
+
+    /**
+     * Ordena un rango del arreglo contando cuántas veces aparece cada valor
+     * @param enteros El arreglo
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango
+     * @param minimo El menor valor del rango
+     * @param maximo El mayor valor del rango
+     * @throws IllegalArgumentException Si hay demasiados valores posibles entre el mínimo y el máximo para crear el arreglo de conteos
+     */
+    static void ordenarPorConteo( int[] enteros, int desde, int hasta, int minimo, int maximo )
+    {
+        long rango = ( long )maximo - minimo + 1;
+        if( rango > RANGO_MAXIMO_CONTEO )
+        {
+            throw new IllegalArgumentException( "El rango de valores es demasiado grande para ordenar por conteo: " + rango );
+        }
+        int[] conteos = new int[( int )rango];
+        for( int i = desde; i < hasta; i++ )
+        {
+            conteos[ enteros[ i ] - minimo ]++;
+        }
+        int escritura = desde;
+        for( int j = 0; j < conteos.length; j++ )
+        {
+            int valor = minimo + j;
+            for( int k = conteos[ j ]; k > 0; k-- )
+            {
+                enteros[ escritura++ ] = valor;
+            }
+        }
+    }
+
+    /**
+     * Ordena un rango del arreglo con radix LSD de a 8 bits.
+     *
+     * Cada valor se ordena según su distancia al mínimo vista como un entero sin signo, que conserva el orden y no es negativa. Sólo se hacen las pasadas
+     * necesarias para los bytes de esa distancia, así que un rango pequeño necesita menos pasadas.
+     * @param enteros El arreglo
+     * @param desde La primera posición del rango
+     * @param hasta La posición siguiente a la última del rango
+     * @param minimo El menor valor del rango
+     * @param maximo El mayor valor del rango
+     */
+    static void ordenarRadix( int[] enteros, int desde, int hasta, int minimo, int maximo )
+    {
+        int cantidad = hasta - desde;
+        int distanciaMaxima = maximo - minimo;
+        int[] origen = enteros;
+        int inicioOrigen = desde;
+        int[] destino = new int[cantidad];
+        int inicioDestino = 0;
+        int[] inicios = new int[257];
+
+        for( int desplazamiento = 0; desplazamiento < Integer.SIZE && ( distanciaMaxima >>> desplazamiento ) != 0; desplazamiento += 8 )
+        {
+            Arrays.fill( inicios, 0 );
+            for( int i = inicioOrigen; i < inicioOrigen + cantidad; i++ )
+            {
+                inicios[ ( ( origen[ i ] - minimo ) >>> desplazamiento & 0xFF ) + 1 ]++;
+            }
+            for( int digito = 1; digito < inicios.length; digito++ )
+            {
+                inicios[ digito ] += inicios[ digito - 1 ];
+            }
+            for( int i = inicioOrigen; i < inicioOrigen + cantidad; i++ )
+            {
+                int valor = origen[ i ];
+                destino[ inicioDestino + inicios[ ( valor - minimo ) >>> desplazamiento & 0xFF ]++ ] = valor;
+            }
+
+            int[] temporal = origen;
+            origen = destino;
+            destino = temporal;
+            int inicioTemporal = inicioOrigen;
+            inicioOrigen = inicioDestino;
+            inicioDestino = inicioTemporal;
+        }
+
+        if( origen != enteros )
+        {
+            System.arraycopy( origen, inicioOrigen, enteros, desde, cantidad );
+        }
+    }
+}
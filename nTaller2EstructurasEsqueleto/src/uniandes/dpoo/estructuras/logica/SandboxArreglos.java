@@ -1,41 +1,635 @@
 package uniandes.dpoo.estructuras.logica;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 
 /**
  * Esta clase tiene un conjunto de métodos para practicar operaciones sobre arreglos de enteros y de cadenas.
  *
  * Todos los métodos deben operar sobre los atributos arregloEnteros y arregloCadenas.
  * 
- * No pueden agregarse nuevos atributos.
+ * Los arreglos se manejan con una capacidad que puede ser mayor a la cantidad de valores almacenados: los atributos cantidadEnteros y cantidadCadenas indican cuántas
+ * posiciones están ocupadas. Cuando se necesita más espacio, la capacidad crece de forma geométrica para que agregar valores tenga un costo amortizado constante.
+ * 
+ * El arreglo de enteros puede guardarse en el heap de Java (arregloEnteros) o en memoria directa (bufferEnteros), según el TipoAlmacenamiento escogido al crear el
+ * sandbox. Todas las operaciones funcionan igual con los dos tipos de almacenamiento.
+ * 
+ * De la misma forma, las cadenas pueden guardarse en arregloCadenas o codificadas con un diccionario (codigosCadenas y diccionarioCadenas).
+ * 
+ * getVistaEnteros y getVistaCadenas retornan vistas de sólo lectura que comparten los arreglos en lugar de copiarlos. Las operaciones que modifican posiciones
+ * que ve alguna vista copian antes el arreglo (copia en escritura); agregar valores al final no afecta a las vistas y no necesita copiarlo.
  * 
  * Implemente los métodos usando operaciones sobre arreglos (ie., no haga cosas como construir listas para evitar la manipulación de arreglos).
  */
 public class SandboxArreglos
 {
+    /**
+     * Capacidad con la que se crea un arreglo cuando se le agrega el primer valor.
+     */
+    private static final int CAPACIDAD_INICIAL = 10;
+
+    /**
+     * Cantidad mínima de enteros a partir de la cual el modo paralelo usa varios hilos, si no se indica otra.
+     */
+    public static final int UMBRAL_PARALELO_POR_DEFECTO = 1 << 13;
+
+    /**
+     * Número con el que empiezan los archivos creados con guardar, para reconocerlos
+     */
+    private static final int MAGIA_ARCHIVO = 0x53424145;
+
+    /**
+     * Versión del formato de los archivos creados con guardar
+     */
+    private static final int VERSION_ARCHIVO = 1;
+
+    /**
+     * Tamaño en bytes del encabezado de los archivos: magia, versión, cantidad de enteros y banderas, cada uno como un int
+     */
+    private static final int TAMANIO_ENCABEZADO = 4 * Integer.BYTES;
+
+    /**
+     * Bandera del encabezado que indica que los enteros están ordenados
+     */
+    private static final int BANDERA_ORDENADOS = 1;
+
+    /**
+     * Cantidad de enteros que se escriben en el archivo en cada operación de escritura
+     */
+    private static final int ENTEROS_POR_ESCRITURA = 1 << 14;
+
     /**
      * Un arreglo de enteros para realizar varias de las siguientes operaciones.
      * 
-     * Ninguna posición del arreglo puede estar vacía en ningún momento.
+     * Sólo las primeras cantidadEnteros posiciones del arreglo tienen valores válidos; el resto es capacidad disponible.
      */
     private int[] arregloEnteros;
-  
+
+    /**
+     * Si el almacenamiento es DIRECTO, el buffer en memoria directa donde se guardan los enteros en lugar de arregloEnteros. Si el almacenamiento es HEAP, es null.
+     */
+    private BufferEnteros bufferEnteros;
+
+    /**
+     * La cantidad de posiciones ocupadas en el arreglo de enteros
+     */
+    private int cantidadEnteros;
 
     /**
      * Un arreglo de cadenas para realizar varias de las siguientes operaciones
      * 
-     * Ninguna posición del arreglo puede estar vacía en ningún momento.
+     * Sólo las primeras cantidadCadenas posiciones del arreglo tienen valores válidos; el resto de posiciones deben estar en null.
      */
     private String[] arregloCadenas;
 
+    /**
+     * Si el modo diccionario está activo, el diccionario con las cadenas diferentes. Si no, es null.
+     */
+    private DiccionarioCadenas diccionarioCadenas;
+
+    /**
+     * Si el modo diccionario está activo, los códigos de las cadenas en lugar de arregloCadenas. Sólo las primeras cantidadCadenas posiciones son válidas.
+     */
+    private int[] codigosCadenas;
+
+    /**
+     * La cantidad de posiciones ocupadas en el arreglo de cadenas
+     */
+    private int cantidadCadenas;
+
+    /**
+     * Indica si se sabe que el arreglo de enteros está organizado de menor a mayor.
+     * 
+     * Las operaciones que pueden desorganizar el arreglo lo ponen en false; mientras sea true, las búsquedas se hacen con búsqueda binaria.
+     */
+    private boolean enterosOrdenados;
+
+    /**
+     * Indica si se sabe que el arreglo de cadenas está organizado lexicográficamente sin diferenciar mayúsculas y minúsculas.
+     * 
+     * Las operaciones que pueden desorganizar el arreglo lo ponen en false; mientras sea true, las búsquedas se hacen con búsqueda binaria.
+     */
+    private boolean cadenasOrdenadas;
+
+    /**
+     * El pool de hilos que se usa para las operaciones en paralelo, o null si el modo paralelo no está activo
+     */
+    private ForkJoinPool poolParalelo;
+
+    /**
+     * Cantidad mínima de elementos que debe tener un arreglo para que las operaciones se ejecuten en paralelo
+     */
+    private int umbralParalelo;
+
+    /**
+     * Indica si se deben usar índices sobre el arreglo de cadenas para contar, buscar y eliminar cadenas
+     */
+    private boolean indiceCadenasActivo;
+
+    /**
+     * El índice sobre el arreglo de cadenas. Es null si el índice no está activo o si todavía no se ha construido desde el último cambio al arreglo de cadenas.
+     */
+    private IndiceCadenas indiceCadenas;
+
+    /**
+     * Cantidad de posiciones iniciales de arregloEnteros que comparten las vistas creadas con getVistaEnteros. Antes de modificar alguna de esas posiciones hay
+     * que copiar el arreglo. Con almacenamiento DIRECTO, el buffer lleva su propia cuenta.
+     */
+    private int enterosCompartidos;
+
+    /**
+     * Cantidad de posiciones iniciales de arregloCadenas (o de codigosCadenas en modo diccionario) que comparten las vistas creadas con getVistaCadenas
+     */
+    private int cadenasCompartidas;
+
     /**
      * Crea una nueva instancia de la clase con los dos arreglos inicializados pero vacíos (tamaño 0)
      */
     public SandboxArreglos( )
+    {
+        this( TipoAlmacenamiento.HEAP );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con los dos arreglos inicializados pero vacíos (tamaño 0), guardando los enteros en el tipo de almacenamiento indicado.
+     * 
+     * Con almacenamiento DIRECTO los enteros quedan por fuera del heap de Java, lo cual sirve para arreglos muy grandes. En ese caso getCopiaEnteros es el único
+     * método que crea un arreglo con todos los enteros en el heap. El modo paralelo no aplica a las operaciones sobre enteros en almacenamiento directo.
+     * @param almacenamiento El tipo de almacenamiento para el arreglo de enteros
+     */
+    public SandboxArreglos( TipoAlmacenamiento almacenamiento )
     {
         arregloEnteros = new int[]{};
+        bufferEnteros = almacenamiento == TipoAlmacenamiento.DIRECTO ? new BufferEnteros( 0 ) : null;
         arregloCadenas = new String[]{};
+        diccionarioCadenas = null;
+        codigosCadenas = null;
+        cantidadEnteros = 0;
+        cantidadCadenas = 0;
+        enterosOrdenados = true;
+        cadenasOrdenadas = true;
+        poolParalelo = null;
+        umbralParalelo = Integer.MAX_VALUE;
+        indiceCadenasActivo = false;
+        indiceCadenas = null;
+    }
+
+    /**
+     * Retorna el tipo de almacenamiento que se usa para el arreglo de enteros
+     * @return El tipo de almacenamiento
+     */
+    public TipoAlmacenamiento getTipoAlmacenamiento( )
+    {
+        return bufferEnteros == null ? TipoAlmacenamiento.HEAP : TipoAlmacenamiento.DIRECTO;
+    }
+
+    /**
+     * Retorna el entero que está en una posición del arreglo de enteros, sin importar el tipo de almacenamiento
+     * @param posicion La posición, que debe ser menor a cantidadEnteros
+     * @return El entero en esa posición
+     */
+    private int leerEntero( int posicion )
+    {
+        return bufferEnteros == null ? arregloEnteros[ posicion ] : bufferEnteros.leer( posicion );
+    }
+
+    /**
+     * Cambia el entero que está en una posición del arreglo de enteros, sin importar el tipo de almacenamiento
+     * @param posicion La posición, que debe ser menor a la capacidad
+     * @param valor El nuevo valor
+     */
+    private void escribirEntero( int posicion, int valor )
+    {
+        if( bufferEnteros == null )
+        {
+            prepararEscrituraEnteros( posicion );
+            arregloEnteros[ posicion ] = valor;
+        }
+        else
+        {
+            bufferEnteros.escribir( posicion, valor );
+        }
+    }
+
+    /**
+     * Con almacenamiento en el heap, copia el arreglo de enteros si alguna vista comparte la posición 'desde' o alguna de las siguientes, antes de modificar
+     * el arreglo a partir de esa posición
+     * @param desde La primera posición que se va a modificar
+     */
+    private void prepararEscrituraEnteros( int desde )
+    {
+        if( desde < enterosCompartidos )
+        {
+            arregloEnteros = Arrays.copyOf( arregloEnteros, arregloEnteros.length );
+            enterosCompartidos = 0;
+        }
+    }
+
+    /**
+     * Copia el arreglo de cadenas (o el de códigos, en modo diccionario) si alguna vista comparte la posición 'desde' o alguna de las siguientes, antes de
+     * modificarlo a partir de esa posición
+     * @param desde La primera posición que se va a modificar
+     */
+    private void prepararEscrituraCadenas( int desde )
+    {
+        if( desde < cadenasCompartidas )
+        {
+            if( diccionarioCadenas != null )
+            {
+                codigosCadenas = Arrays.copyOf( codigosCadenas, codigosCadenas.length );
+            }
+            else
+            {
+                arregloCadenas = Arrays.copyOf( arregloCadenas, arregloCadenas.length );
+            }
+            cadenasCompartidas = 0;
+        }
+    }
+
+    /**
+     * Reemplaza todo el contenido del arreglo de enteros por los valores de 'enteros'. Con almacenamiento en el heap se usa el mismo arreglo recibido.
+     * @param enteros Los nuevos enteros
+     */
+    private void establecerEnteros( int[] enteros )
+    {
+        if( bufferEnteros == null )
+        {
+            arregloEnteros = enteros;
+            enterosCompartidos = 0;
+        }
+        else
+        {
+            bufferEnteros = new BufferEnteros( enteros.length );
+            bufferEnteros.copiarDe( enteros, 0, 0, enteros.length );
+        }
+        cantidadEnteros = enteros.length;
+        enterosOrdenados = false;
+    }
+
+    /**
+     * Activa el modo paralelo usando el pool común de Java y el umbral por defecto.
+     * @see #activarModoParalelo(int, ForkJoinPool)
+     */
+    public void activarModoParalelo( )
+    {
+        activarModoParalelo( UMBRAL_PARALELO_POR_DEFECTO, ForkJoinPool.commonPool( ) );
+    }
+
+    /**
+     * Activa el modo paralelo: cuando un arreglo tenga al menos 'umbral' elementos, las operaciones de ordenamiento, conteo, cálculo del rango y volverPositivos se
+     * reparten entre los hilos del pool.
+     * 
+     * Para arreglos pequeños el costo de coordinar los hilos es mayor que el beneficio, así que por debajo del umbral se siguen usando las versiones secuenciales.
+     * @param umbral La cantidad mínima de elementos para usar varios hilos
+     * @param pool El pool de hilos donde se ejecutan las operaciones
+     * @throws IllegalArgumentException Si el umbral es menor a 1
+     * @throws NullPointerException Si el pool es null
+     */
+    public void activarModoParalelo( int umbral, ForkJoinPool pool )
+    {
+        if( umbral < 1 )
+        {
+            throw new IllegalArgumentException( "El umbral para el modo paralelo debe ser mayor a 0" );
+        }
+        poolParalelo = Objects.requireNonNull( pool, "El pool para el modo paralelo no puede ser null" );
+        umbralParalelo = umbral;
+    }
+
+    /**
+     * Desactiva el modo paralelo, de forma que todas las operaciones vuelven a ejecutarse en el hilo que las llama.
+     */
+    public void desactivarModoParalelo( )
+    {
+        poolParalelo = null;
+        umbralParalelo = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Indica si el modo paralelo está activo
+     * @return True si el modo paralelo está activo
+     */
+    public boolean estaEnModoParalelo( )
+    {
+        return poolParalelo != null;
+    }
+
+    /**
+     * Activa el índice sobre el arreglo de cadenas, que sirve cuando se hacen muchas búsquedas sobre un arreglo que cambia poco.
+     * 
+     * El índice se construye la primera vez que se necesita y se descarta cada vez que el arreglo de cadenas cambia (excepto al agregar una cadena al final, que
+     * lo actualiza). Mientras esté construido, contarApariciones, buscarCadena y eliminarCadena no tienen que recorrer el arreglo.
+     */
+    public void activarIndiceCadenas( )
+    {
+        indiceCadenasActivo = true;
+    }
+
+    /**
+     * Desactiva el índice sobre el arreglo de cadenas y libera su memoria
+     */
+    public void desactivarIndiceCadenas( )
+    {
+        indiceCadenasActivo = false;
+        indiceCadenas = null;
+    }
+
+    /**
+     * Indica si el índice sobre el arreglo de cadenas está activo
+     * @return True si el índice está activo
+     */
+    public boolean estaIndiceCadenasActivo( )
+    {
+        return indiceCadenasActivo;
+    }
+
+    /**
+     * Retorna una aproximación de la memoria que ocupa el índice sobre el arreglo de cadenas, sin contar las cadenas del arreglo
+     * @return La cantidad aproximada de bytes, o 0 si el índice no está construido
+     */
+    public long getMemoriaIndiceCadenas( )
+    {
+        return indiceCadenas == null ? 0 : indiceCadenas.calcularMemoria( );
+    }
+
+    /**
+     * Retorna el índice sobre el arreglo de cadenas, construyéndolo si hace falta
+     * @return El índice, o null si el índice no está activo
+     */
+    private IndiceCadenas obtenerIndiceCadenas( )
+    {
+        if( indiceCadenasActivo && indiceCadenas == null )
+        {
+            IndiceCadenas indice = new IndiceCadenas( );
+            for( int i = 0; i < cantidadCadenas; i++ )
+            {
+                indice.agregar( leerCadena( i ), i );
+            }
+            indiceCadenas = indice;
+        }
+        return indiceCadenas;
+    }
+
+    /**
+     * Activa el modo diccionario para el arreglo de cadenas: cada cadena diferente se guarda una sola vez en un diccionario y el arreglo guarda sólo un código
+     * entero por posición.
+     * 
+     * Cuando hay pocas cadenas diferentes repetidas muchas veces, esto reduce mucho la memoria y permite que contarApariciones, eliminarCadena y organizarCadenas
+     * trabajen sobre enteros en lugar de comparar cadenas. Las cadenas actuales se codifican al activar el modo.
+     */
+    public void activarDiccionarioCadenas( )
+    {
+        if( diccionarioCadenas != null )
+        {
+            return;
+        }
+        DiccionarioCadenas diccionario = new DiccionarioCadenas( );
+        int[] codigos = new int[cantidadCadenas];
+        for( int i = 0; i < cantidadCadenas; i++ )
+        {
+            codigos[ i ] = diccionario.codificar( arregloCadenas[ i ] );
+        }
+        diccionarioCadenas = diccionario;
+        codigosCadenas = codigos;
+        arregloCadenas = new String[]{};
+        cadenasCompartidas = 0;
+    }
+
+    /**
+     * Desactiva el modo diccionario, volviendo a guardar las cadenas en un arreglo de cadenas
+     */
+    public void desactivarDiccionarioCadenas( )
+    {
+        if( diccionarioCadenas == null )
+        {
+            return;
+        }
+        arregloCadenas = getCopiaCadenas( );
+        diccionarioCadenas = null;
+        codigosCadenas = null;
+        cadenasCompartidas = 0;
+    }
+
+    /**
+     * Indica si el modo diccionario está activo para el arreglo de cadenas
+     * @return True si las cadenas se guardan codificadas con un diccionario
+     */
+    public boolean estaDiccionarioCadenasActivo( )
+    {
+        return diccionarioCadenas != null;
+    }
+
+    /**
+     * Retorna la cantidad de cadenas diferentes que tiene el diccionario. El diccionario conserva las cadenas que ya no están en el arreglo hasta que se llame
+     * reiniciarArregloCadenas.
+     * @return La cantidad de cadenas del diccionario, o 0 si el modo diccionario no está activo
+     */
+    public int getTamanioDiccionarioCadenas( )
+    {
+        return diccionarioCadenas == null ? 0 : diccionarioCadenas.getCantidadValores( );
+    }
+
+    /**
+     * Retorna la cadena que está en una posición del arreglo de cadenas, sin importar si el modo diccionario está activo
+     * @param posicion La posición, que debe ser menor a cantidadCadenas
+     * @return La cadena en esa posición
+     */
+    private String leerCadena( int posicion )
+    {
+        return diccionarioCadenas == null ? arregloCadenas[ posicion ] : diccionarioCadenas.decodificar( codigosCadenas[ posicion ] );
+    }
+
+    /**
+     * En modo diccionario, elimina del arreglo de códigos todas las posiciones cuyo código está marcado, conservando el orden de las demás
+     * @param eliminar Un arreglo con una posición por código, en true para los códigos que se deben eliminar
+     * @return La cantidad de cadenas eliminadas
+     */
+    private int eliminarCodigos( boolean[] eliminar )
+    {
+        prepararEscrituraCadenas( 0 );
+        int escritura = 0;
+        for( int i = 0; i < cantidadCadenas; i++ )
+        {
+            int codigo = codigosCadenas[ i ];
+            if( !eliminar[ codigo ] )
+            {
+                codigosCadenas[ escritura++ ] = codigo;
+            }
+        }
+        int eliminadas = cantidadCadenas - escritura;
+        cantidadCadenas = escritura;
+        if( eliminadas > 0 )
+        {
+            indiceCadenas = null;
+        }
+        return eliminadas;
+    }
+
+    /**
+     * Indica si una operación sobre 'cantidad' elementos debe ejecutarse en paralelo
+     * @param cantidad La cantidad de elementos sobre los que trabaja la operación
+     * @return True si el modo paralelo está activo y la cantidad alcanza el umbral
+     */
+    private boolean usarParalelo( int cantidad )
+    {
+        return poolParalelo != null && cantidad >= umbralParalelo;
+    }
+
+    /**
+     * Calcula la nueva capacidad que debe tener un arreglo para poder almacenar al menos 'minima' valores.
+     * 
+     * La capacidad crece en un 50% cada vez, de forma que una secuencia de N adiciones sólo hace O(log N) copias del arreglo.
+     * @param actual La capacidad actual del arreglo
+     * @param minima La capacidad mínima que se necesita
+     * @return La nueva capacidad
+     */
+    private static int calcularNuevaCapacidad( int actual, int minima )
+    {
+        if( minima < 0 )
+        {
+            throw new OutOfMemoryError( "La capacidad requerida excede el tamaño máximo de un arreglo" );
+        }
+        int nueva = actual + ( actual >> 1 );
+        if( nueva < CAPACIDAD_INICIAL )
+        {
+            nueva = CAPACIDAD_INICIAL;
+        }
+        if( nueva < minima || nueva < 0 )
+        {
+            nueva = minima;
+        }
+        return nueva;
+    }
+
+    /**
+     * Garantiza que el arreglo de enteros tenga capacidad para al menos 'capacidad' valores sin necesidad de volver a crecer.
+     * 
+     * Es útil cuando se sabe de antemano cuántos valores se van a agregar.
+     * @param capacidad La capacidad mínima que debe tener el arreglo de enteros
+     */
+    public void asegurarCapacidadEnteros( int capacidad )
+    {
+        if( bufferEnteros != null )
+        {
+            if( capacidad > bufferEnteros.capacidad( ) )
+            {
+                int nueva = Math.min( calcularNuevaCapacidad( bufferEnteros.capacidad( ), capacidad ), Math.max( capacidad, BufferEnteros.CAPACIDAD_MAXIMA ) );
+                bufferEnteros.cambiarCapacidad( cantidadEnteros, nueva );
+            }
+            return;
+        }
+        if( capacidad > arregloEnteros.length )
+        {
+            arregloEnteros = Arrays.copyOf( arregloEnteros, calcularNuevaCapacidad( arregloEnteros.length, capacidad ) );
+            enterosCompartidos = 0;
+        }
+    }
+
+    /**
+     * Garantiza que el arreglo de cadenas tenga capacidad para al menos 'capacidad' valores sin necesidad de volver a crecer.
+     * 
+     * Es útil cuando se sabe de antemano cuántos valores se van a agregar.
+     * @param capacidad La capacidad mínima que debe tener el arreglo de cadenas
+     */
+    public void asegurarCapacidadCadenas( int capacidad )
+    {
+        if( diccionarioCadenas != null )
+        {
+            if( capacidad > codigosCadenas.length )
+            {
+                codigosCadenas = Arrays.copyOf( codigosCadenas, calcularNuevaCapacidad( codigosCadenas.length, capacidad ) );
+                cadenasCompartidas = 0;
+            }
+            return;
+        }
+        if( capacidad > arregloCadenas.length )
+        {
+            arregloCadenas = Arrays.copyOf( arregloCadenas, calcularNuevaCapacidad( arregloCadenas.length, capacidad ) );
+            cadenasCompartidas = 0;
+        }
+    }
+
+    /**
+     * Reduce la capacidad de los dos arreglos para que coincida exactamente con la cantidad de valores almacenados, liberando la memoria que no se está usando.
+     */
+    public void recortarCapacidad( )
+    {
+        if( bufferEnteros != null && bufferEnteros.capacidad( ) > cantidadEnteros )
+        {
+            bufferEnteros.cambiarCapacidad( cantidadEnteros, cantidadEnteros );
+        }
+        if( arregloEnteros.length > cantidadEnteros )
+        {
+            arregloEnteros = Arrays.copyOf( arregloEnteros, cantidadEnteros );
+            enterosCompartidos = 0;
+        }
+        if( arregloCadenas.length > cantidadCadenas )
+        {
+            arregloCadenas = Arrays.copyOf( arregloCadenas, cantidadCadenas );
+            cadenasCompartidas = 0;
+        }
+        if( codigosCadenas != null && codigosCadenas.length > cantidadCadenas )
+        {
+            codigosCadenas = Arrays.copyOf( codigosCadenas, cantidadCadenas );
+            cadenasCompartidas = 0;
+        }
+    }
+
+    /**
+     * Retorna la cantidad de enteros que puede almacenar el arreglo de enteros antes de tener que crecer
+     * @return La capacidad del arreglo de enteros
+     */
+    public int getCapacidadEnteros( )
+    {
+        return bufferEnteros == null ? arregloEnteros.length : bufferEnteros.capacidad( );
+    }
+
+    /**
+     * Retorna la cantidad de cadenas que puede almacenar el arreglo de cadenas antes de tener que crecer
+     * @return La capacidad del arreglo de cadenas
+     */
+    public int getCapacidadCadenas( )
+    {
+        return diccionarioCadenas == null ? arregloCadenas.length : codigosCadenas.length;
+    }
+
+    /**
+     * Indica si el arreglo de enteros está organizado de menor a mayor, por haber llamado organizarEnteros o porque los valores se agregaron en orden.
+     * @return True si se sabe que el arreglo de enteros está ordenado
+     */
+    public boolean estanEnterosOrdenados( )
+    {
+        return enterosOrdenados;
+    }
+
+    /**
+     * Indica si el arreglo de cadenas está organizado lexicográficamente, por haber llamado organizarCadenas o porque no se ha modificado su orden desde entonces.
+     * @return True si se sabe que el arreglo de cadenas está ordenado
+     */
+    public boolean estanCadenasOrdenadas( )
+    {
+        return cadenasOrdenadas;
     }
 
     /**
@@ -43,7 +637,13 @@ public class SandboxArreglos
      * @return Una copia del arreglo de enteros
      */
     public int[] getCopiaEnteros( ) {
-        return Arrays.copyOf(arregloEnteros, arregloEnteros.length);
+        if( bufferEnteros != null )
+        {
+            int[] copia = new int[cantidadEnteros];
+            bufferEnteros.copiarA( 0, copia, 0, cantidadEnteros );
+            return copia;
+        }
+        return Arrays.copyOf( arregloEnteros, cantidadEnteros );
     }
 
     /**
@@ -52,7 +652,69 @@ public class SandboxArreglos
      */
     public String[] getCopiaCadenas( )
     {
-        return Arrays.copyOf(arregloCadenas, arregloCadenas.length);
+        if( diccionarioCadenas != null )
+        {
+            String[] copia = new String[cantidadCadenas];
+            for( int i = 0; i < cantidadCadenas; i++ )
+            {
+                copia[ i ] = diccionarioCadenas.decodificar( codigosCadenas[ i ] );
+            }
+            return copia;
+        }
+        return Arrays.copyOf( arregloCadenas, cantidadCadenas );
+    }
+
+    /**
+     * Retorna una vista de sólo lectura del arreglo de enteros, sin copiarlo. Los cambios posteriores al arreglo de enteros no se ven en la vista: si se
+     * modifica alguna de sus posiciones, el arreglo se copia antes de modificarlo.
+     * @return Un IntBuffer de sólo lectura con los enteros, con posición 0 y límite igual a la cantidad de enteros
+     */
+    public IntBuffer getVistaEnteros( )
+    {
+        if( bufferEnteros != null )
+        {
+            return bufferEnteros.crearVista( cantidadEnteros );
+        }
+        enterosCompartidos = Math.max( enterosCompartidos, cantidadEnteros );
+        return IntBuffer.wrap( arregloEnteros, 0, cantidadEnteros ).slice( ).asReadOnlyBuffer( );
+    }
+
+    /**
+     * Retorna una vista de sólo lectura del arreglo de cadenas, sin copiarlo. Los cambios posteriores al arreglo de cadenas no se ven en la vista: si se
+     * modifica alguna de sus posiciones, el arreglo se copia antes de modificarlo.
+     * 
+     * En modo diccionario la vista decodifica cada cadena cuando se consulta.
+     * @return Una lista que no se puede modificar
+     */
+    public List<String> getVistaCadenas( )
+    {
+        cadenasCompartidas = Math.max( cadenasCompartidas, cantidadCadenas );
+        if( diccionarioCadenas == null )
+        {
+            return Collections.unmodifiableList( Arrays.asList( arregloCadenas ).subList( 0, cantidadCadenas ) );
+        }
+        // Los códigos de un diccionario no cambian y sólo se agregan cadenas nuevas, así que la vista puede seguir usando este diccionario
+        DiccionarioCadenas diccionario = diccionarioCadenas;
+        int[] codigos = codigosCadenas;
+        int cantidad = cantidadCadenas;
+        return new AbstractList<String>( )
+        {
+            @Override
+            public String get( int posicion )
+            {
+                if( posicion < 0 || posicion >= cantidad )
+                {
+                    throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + cantidad );
+                }
+                return diccionario.decodificar( codigos[ posicion ] );
+            }
+
+            @Override
+            public int size( )
+            {
+                return cantidad;
+            }
+        };
     }
 
     /**
@@ -61,7 +723,7 @@ public class SandboxArreglos
      */
     public int getCantidadEnteros( )
     {
-        return arregloEnteros.length;
+        return cantidadEnteros;
     }
 
     /**
@@ -70,119 +732,508 @@ public class SandboxArreglos
      */
     public int getCantidadCadenas( )
     {
-        return arregloCadenas.length;
+        return cantidadCadenas;
+    }
+
+    /**
+     * Agrega un nuevo valor al final del arreglo. Es decir que este método siempre debería aumentar en 1 la cantidad de valores del arreglo.
+     * 
+     * Si el arreglo no tiene capacidad disponible, su capacidad crece de forma geométrica.
+     * @param entero El valor que se va a agregar.
+     */
+    public void agregarEntero( int entero )
+    {
+        if( cantidadEnteros == getCapacidadEnteros( ) )
+        {
+            asegurarCapacidadEnteros( cantidadEnteros + 1 );
+        }
+        if( enterosOrdenados && cantidadEnteros > 0 && entero < leerEntero( cantidadEnteros - 1 ) )
+        {
+            enterosOrdenados = false;
+        }
+        escribirEntero( cantidadEnteros++, entero );
+    }
+
+    /**
+     * Agrega un nuevo valor al final del arreglo. Es decir que este método siempre debería aumentar en 1 la cantidad de valores del arreglo.
+     * 
+     * Si el arreglo no tiene capacidad disponible, su capacidad crece de forma geométrica.
+     * @param cadena La cadena que se va a agregar.
+     */
+    public void agregarCadena( String cadena )
+    {
+        if( cantidadCadenas == getCapacidadCadenas( ) )
+        {
+            asegurarCapacidadCadenas( cantidadCadenas + 1 );
+        }
+        if( cadenasOrdenadas && ( cadena == null || ( cantidadCadenas > 0 && estaAntesDeLaUltima( cadena ) ) ) )
+        {
+            cadenasOrdenadas = false;
+        }
+        if( indiceCadenas != null )
+        {
+            indiceCadenas.agregar( cadena, cantidadCadenas );
+        }
+        prepararEscrituraCadenas( cantidadCadenas );
+        if( diccionarioCadenas != null )
+        {
+            codigosCadenas[ cantidadCadenas++ ] = diccionarioCadenas.codificar( cadena );
+        }
+        else
+        {
+            arregloCadenas[ cantidadCadenas++ ] = cadena;
+        }
+    }
+
+    /**
+     * Indica si agregar una cadena al final dejaría el arreglo de cadenas desorganizado. Una única cadena null queda marcada como organizada (no hay nada con
+     * qué compararla), así que si la última cadena es null el arreglo se considera desorganizado.
+     * @param cadena La cadena que se va a agregar. No puede ser null.
+     * @return True si la cadena va antes de la última cadena del arreglo o si la última cadena es null
+     */
+    private boolean estaAntesDeLaUltima( String cadena )
+    {
+        String ultima = leerCadena( cantidadCadenas - 1 );
+        return ultima == null || String.CASE_INSENSITIVE_ORDER.compare( cadena, ultima ) < 0;
+    }
+
+    /**
+     * Agrega al final del arreglo de enteros 'cantidad' valores del arreglo 'origen', empezando en la posición 'desde'.
+     * 
+     * El arreglo crece a lo sumo una vez para todo el bloque, así que es mucho más eficiente que llamar agregarEntero para cada valor.
+     * @param origen El arreglo del que se toman los valores
+     * @param desde La posición del primer valor que se debe agregar
+     * @param cantidad La cantidad de valores que se deben agregar
+     * @throws IndexOutOfBoundsException Si el rango indicado no está dentro del arreglo origen
+     */
+    public void agregarEnteros( int[] origen, int desde, int cantidad )
+    {
+        verificarRango( origen.length, desde, cantidad );
+        asegurarCapacidadEnteros( cantidadEnteros + cantidad );
+        if( bufferEnteros != null )
+        {
+            bufferEnteros.copiarDe( origen, desde, cantidadEnteros, cantidad );
+        }
+        else
+        {
+            prepararEscrituraEnteros( cantidadEnteros );
+            System.arraycopy( origen, desde, arregloEnteros, cantidadEnteros, cantidad );
+        }
+        cantidadEnteros += cantidad;
+        enterosOrdenados = enterosOrdenados && cantidad == 0;
+    }
+
+    /**
+     * Agrega al final del arreglo de cadenas 'cantidad' valores del arreglo 'origen', empezando en la posición 'desde'.
+     * 
+     * El arreglo crece a lo sumo una vez para todo el bloque, así que es mucho más eficiente que llamar agregarCadena para cada valor.
+     * @param origen El arreglo del que se toman las cadenas
+     * @param desde La posición de la primera cadena que se debe agregar
+     * @param cantidad La cantidad de cadenas que se deben agregar
+     * @throws IndexOutOfBoundsException Si el rango indicado no está dentro del arreglo origen
+     */
+    public void agregarCadenas( String[] origen, int desde, int cantidad )
+    {
+        verificarRango( origen.length, desde, cantidad );
+        asegurarCapacidadCadenas( cantidadCadenas + cantidad );
+        prepararEscrituraCadenas( cantidadCadenas );
+        if( diccionarioCadenas != null )
+        {
+            for( int i = 0; i < cantidad; i++ )
+            {
+                codigosCadenas[ cantidadCadenas + i ] = diccionarioCadenas.codificar( origen[ desde + i ] );
+            }
+        }
+        else
+        {
+            System.arraycopy( origen, desde, arregloCadenas, cantidadCadenas, cantidad );
+        }
+        cantidadCadenas += cantidad;
+        cadenasOrdenadas = cadenasOrdenadas && cantidad == 0;
+        indiceCadenas = null;
+    }
+
+    /**
+     * Verifica que el rango [desde, desde + cantidad) esté contenido en un arreglo de tamaño 'tamanio'.
+     * @param tamanio El tamaño del arreglo
+     * @param desde La posición inicial del rango
+     * @param cantidad La cantidad de posiciones del rango
+     * @throws IndexOutOfBoundsException Si el rango no está dentro del arreglo
+     */
+    private static void verificarRango( int tamanio, int desde, int cantidad )
+    {
+        if( desde < 0 || cantidad < 0 || desde > tamanio - cantidad )
+        {
+            throw new IndexOutOfBoundsException( "Rango inválido: desde=" + desde + ", cantidad=" + cantidad + ", tamaño=" + tamanio );
+        }
+    }
+
+    /**
+     * Elimina todas las apariciones de un determinado valor dentro del arreglo de enteros
+     * @param valor El valor que se va eliminar
+     */
+    public void eliminarEntero( int valor )
+    {
+        if( bufferEnteros != null )
+        {
+            cantidadEnteros = bufferEnteros.eliminarSi( cantidadEnteros, n -> n == valor );
+            return;
+        }
+        prepararEscrituraEnteros( 0 );
+        int escritura = 0;
+        for( int i = 0; i < cantidadEnteros; i++ )
+        {
+            int entero = arregloEnteros[ i ];
+            if( entero != valor )
+            {
+                arregloEnteros[ escritura++ ] = entero;
+            }
+        }
+        cantidadEnteros = escritura;
+    }
+
+    /**
+     * Elimina del arreglo de enteros todos los valores que cumplan la condición, en un solo recorrido y sin crear arreglos nuevos.
+     * 
+     * Los valores que se conservan mantienen su orden relativo.
+     * @param condicion La condición que deben cumplir los valores que se van a eliminar
+     * @return La cantidad de valores eliminados
+     */
+    public int eliminarEnteros( IntPredicate condicion )
+    {
+        if( bufferEnteros != null )
+        {
+            int restantes = bufferEnteros.eliminarSi( cantidadEnteros, condicion );
+            int eliminados = cantidadEnteros - restantes;
+            cantidadEnteros = restantes;
+            return eliminados;
+        }
+        prepararEscrituraEnteros( 0 );
+        int escritura = 0;
+        for( int i = 0; i < cantidadEnteros; i++ )
+        {
+            int entero = arregloEnteros[ i ];
+            if( !condicion.test( entero ) )
+            {
+                arregloEnteros[ escritura++ ] = entero;
+            }
+        }
+        int eliminados = cantidadEnteros - escritura;
+        cantidadEnteros = escritura;
+        return eliminados;
+    }
+    /**
+     * Elimina todas las apariciones de un determinado valor dentro del arreglo de cadenas
+     * @param cadena La cadena que se va eliminar
+     */
+    public void eliminarCadena( String cadena )
+    {
+        if( diccionarioCadenas != null )
+        {
+            eliminarCodigos( diccionarioCadenas.buscarCoincidencias( cadena ) );
+            return;
+        }
+        IndiceCadenas indice = obtenerIndiceCadenas( );
+        if( indice == null )
+        {
+            eliminarCadenas( s -> s.equalsIgnoreCase( cadena ) );
+            return;
+        }
+
+        // Con el índice sólo hay que mover las cadenas que están después de la primera aparición
+        int[] posiciones = indice.buscar( cadena );
+        if( posiciones.length == 0 )
+        {
+            return;
+        }
+        prepararEscrituraCadenas( posiciones[ 0 ] );
+        int escritura = posiciones[ 0 ];
+        int siguiente = 0;
+        for( int i = posiciones[ 0 ]; i < cantidadCadenas; i++ )
+        {
+            if( siguiente < posiciones.length && posiciones[ siguiente ] == i )
+            {
+                siguiente++;
+            }
+            else
+            {
+                arregloCadenas[ escritura++ ] = arregloCadenas[ i ];
+            }
+        }
+        Arrays.fill( arregloCadenas, escritura, cantidadCadenas, null );
+        cantidadCadenas = escritura;
+        indiceCadenas = null;
+    }
+
+    /**
+     * Elimina del arreglo de cadenas todas las cadenas que cumplan la condición, en un solo recorrido y sin crear arreglos nuevos.
+     * 
+     * Las cadenas que se conservan mantienen su orden relativo. En modo diccionario la condición se evalúa una sola vez por cada cadena diferente.
+     * @param condicion La condición que deben cumplir las cadenas que se van a eliminar
+     * @return La cantidad de cadenas eliminadas
+     */
+    public int eliminarCadenas( Predicate<String> condicion )
+    {
+        if( diccionarioCadenas != null )
+        {
+            // Se evalúa la condición sólo para los códigos que aparecen en el arreglo
+            boolean[] eliminar = new boolean[diccionarioCadenas.getCantidadValores( )];
+            boolean[] evaluado = new boolean[eliminar.length];
+            for( int i = 0; i < cantidadCadenas; i++ )
+            {
+                int codigo = codigosCadenas[ i ];
+                if( !evaluado[ codigo ] )
+                {
+                    eliminar[ codigo ] = condicion.test( diccionarioCadenas.decodificar( codigo ) );
+                    evaluado[ codigo ] = true;
+                }
+            }
+            return eliminarCodigos( eliminar );
+        }
+        prepararEscrituraCadenas( 0 );
+        int escritura = 0;
+        for( int i = 0; i < cantidadCadenas; i++ )
+        {
+            String cadena = arregloCadenas[ i ];
+            if( !condicion.test( cadena ) )
+            {
+                arregloCadenas[ escritura++ ] = cadena;
+            }
+        }
+        // Las posiciones que quedan libres no deben retener referencias a las cadenas eliminadas
+        Arrays.fill( arregloCadenas, escritura, cantidadCadenas, null );
+        int eliminadas = cantidadCadenas - escritura;
+        cantidadCadenas = escritura;
+        if( eliminadas > 0 )
+        {
+            indiceCadenas = null;
+        }
+        return eliminadas;
+    }
+
+    
+
+    /**
+     * Inserta un nuevo entero en el arreglo de enteros.
+     * 
+     * @param entero El nuevo valor que debe agregarse
+     * @param posicion La posición donde debe quedar el nuevo valor en el arreglo aumentado. Si la posición es menor a 0, se inserta el valor en la primera posición. Si la
+     *        posición es mayor que el tamaño del arreglo, se inserta el valor en la última posición.
+     */
+    public void insertarEntero( int entero, int posicion )
+    {
+        if( posicion < 0 )
+        {
+            posicion = 0;
+        }
+        else if( posicion > cantidadEnteros )
+        {
+            posicion = cantidadEnteros;
+        }
+        asegurarCapacidadEnteros( cantidadEnteros + 1 );
+        if( enterosOrdenados && ( ( posicion > 0 && entero < leerEntero( posicion - 1 ) ) || ( posicion < cantidadEnteros && entero > leerEntero( posicion ) ) ) )
+        {
+            enterosOrdenados = false;
+        }
+        if( bufferEnteros != null )
+        {
+            bufferEnteros.mover( posicion, posicion + 1, cantidadEnteros - posicion );
+        }
+        else
+        {
+            prepararEscrituraEnteros( posicion );
+            System.arraycopy( arregloEnteros, posicion, arregloEnteros, posicion + 1, cantidadEnteros - posicion );
+        }
+        escribirEntero( posicion, entero );
+        cantidadEnteros++;
+    }
+
+    
+
+    /**
+     * Inserta todos los valores de 'valores' en el arreglo de enteros, de forma que el primero de ellos quede en la posición indicada y conserven su orden.
+     * 
+     * Los valores existentes se desplazan una sola vez para todo el bloque.
+     * @param posicion La posición donde debe quedar el primer valor insertado. Si la posición es menor a 0, se insertan los valores al comienzo. Si la posición es mayor
+     *        que el tamaño del arreglo, se insertan al final.
+     * @param valores Los valores que deben insertarse
+     */
+    public void insertarEnteros( int posicion, int[] valores )
+    {
+        if( posicion < 0 )
+        {
+            posicion = 0;
+        }
+        else if( posicion > cantidadEnteros )
+        {
+            posicion = cantidadEnteros;
+        }
+        int cantidad = valores.length;
+        asegurarCapacidadEnteros( cantidadEnteros + cantidad );
+        if( bufferEnteros != null )
+        {
+            bufferEnteros.mover( posicion, posicion + cantidad, cantidadEnteros - posicion );
+            bufferEnteros.copiarDe( valores, 0, posicion, cantidad );
+        }
+        else
+        {
+            prepararEscrituraEnteros( posicion );
+            System.arraycopy( arregloEnteros, posicion, arregloEnteros, posicion + cantidad, cantidadEnteros - posicion );
+            System.arraycopy( valores, 0, arregloEnteros, posicion, cantidad );
+        }
+        cantidadEnteros += cantidad;
+        enterosOrdenados = enterosOrdenados && cantidad == 0;
+    }
+
+    /**
+     * Inserta todas las cadenas de 'cadenas' en el arreglo de cadenas, de forma que la primera de ellas quede en la posición indicada y conserven su orden.
+     * 
+     * Las cadenas existentes se desplazan una sola vez para todo el bloque.
+     * @param posicion La posición donde debe quedar la primera cadena insertada. Si la posición es menor a 0, se insertan las cadenas al comienzo. Si la posición es
+     *        mayor que el tamaño del arreglo, se insertan al final.
+     * @param cadenas Las cadenas que deben insertarse
+     */
+    public void insertarCadenas( int posicion, String[] cadenas )
+    {
+        if( posicion < 0 )
+        {
+            posicion = 0;
+        }
+        else if( posicion > cantidadCadenas )
+        {
+            posicion = cantidadCadenas;
+        }
+        int cantidad = cadenas.length;
+        asegurarCapacidadCadenas( cantidadCadenas + cantidad );
+        prepararEscrituraCadenas( posicion );
+        if( diccionarioCadenas != null )
+        {
+            System.arraycopy( codigosCadenas, posicion, codigosCadenas, posicion + cantidad, cantidadCadenas - posicion );
+            for( int i = 0; i < cantidad; i++ )
+            {
+                codigosCadenas[ posicion + i ] = diccionarioCadenas.codificar( cadenas[ i ] );
+            }
+        }
+        else
+        {
+            System.arraycopy( arregloCadenas, posicion, arregloCadenas, posicion + cantidad, cantidadCadenas - posicion );
+            System.arraycopy( cadenas, 0, arregloCadenas, posicion, cantidad );
+        }
+        cantidadCadenas += cantidad;
+        cadenasOrdenadas = cadenasOrdenadas && cantidad == 0;
+        indiceCadenas = null;
+    }
+
+    /**
+     * Elimina un valor del arreglo de enteros dada su posición.
+     * @param posicion La posición donde está el elemento que debe ser eliminado. Si el parámetro posicion no corresponde a ninguna posición del arreglo de enteros, el método
+     *        no debe hacer nada.
+     */
+    public void eliminarEnteroPorPosicion( int posicion )
+    {
+        if( posicion < 0 || posicion >= cantidadEnteros )
+        {
+            return;
+        }
+        if( bufferEnteros != null )
+        {
+            bufferEnteros.mover( posicion + 1, posicion, cantidadEnteros - posicion - 1 );
+        }
+        else
+        {
+            prepararEscrituraEnteros( posicion );
+            System.arraycopy( arregloEnteros, posicion + 1, arregloEnteros, posicion, cantidadEnteros - posicion - 1 );
+        }
+        cantidadEnteros--;
     }
 
     /**
-     * Agrega un nuevo valor al final del arreglo. Es decir que este método siempre debería aumentar en 1 la capacidad del arreglo.
+     * Reinicia el arreglo de enteros con los valores contenidos en el arreglo del parámetro 'valores' truncados.
      * 
-     * @param entero El valor que se va a agregar.
+     * Es decir que si el valor fuera 3.67, en el nuevo arreglo de enteros debería quedar el entero 3.
+     * @param valores Un arreglo de valores decimales.
      */
-    public void agregarEntero( int entero ){
-    arregloEnteros = Arrays.copyOf(arregloEnteros, arregloEnteros.length + 1);
-    arregloEnteros[arregloEnteros.length - 1] = entero;
+    public void reiniciarArregloEnteros( double[] valores )
+    {int[] enteros = new int[valores.length];
+    for (int i = 0; i < valores.length; i++) {
+        enteros[i] = (int) Math.floor(valores[i]);
+    }
+    establecerEnteros( enteros );
 
     }
 
     /**
-     * Agrega un nuevo valor al final del arreglo. Es decir que este método siempre debería aumentar en 1 la capacidad del arreglo.
+     * Reinicia el arreglo de enteros con los valores de 'valores' truncados, igual que reiniciarArregloEnteros( double[] ), pero sin tener todos los valores
+     * decimales en memoria al mismo tiempo: se convierten por bloques de tamaño fijo.
      * 
-     * @param cadena La cadena que se va a agregar.
+     * Si el stream conoce su tamaño, el arreglo de enteros se crea una sola vez con ese tamaño.
+     * @param valores Un stream de valores decimales
      */
-    public void agregarCadena( String cadena )
-    { arregloCadenas = Arrays.copyOf(arregloCadenas, arregloCadenas.length + 1);
-      arregloCadenas[arregloCadenas.length - 1] = cadena;
-
+    public void reiniciarArregloEnteros( DoubleStream valores )
+    {
+        Spliterator.OfDouble partes = valores.spliterator( );
+        long tamanio = partes.getExactSizeIfKnown( );
+        vaciarEnteros( tamanio < 0 ? 0 : ( int )Math.min( tamanio, Integer.MAX_VALUE - 8 ) );
+        LectorDoubles.leer( Spliterators.iterator( partes ), this::agregarDecimales );
     }
 
     /**
-     * Elimina todas las apariciones de un determinado valor dentro del arreglo de enteros
-     * @param valor El valor que se va eliminar
-     */
-    public void eliminarEntero( int valor )
-    {    int count = 0;
-    for (int entero : arregloEnteros) {
-        if (entero != valor) {
-            count++;
-        }
-    }
-    int[] nuevoArreglo = new int[count];
-    int index = 0;
-    for (int entero : arregloEnteros) {
-        if (entero != valor) {
-            nuevoArreglo[index++] = entero;
-            }
-    	}
-    arregloEnteros = nuevoArreglo;
-}
-    /**
-     * Elimina todas las apariciones de un determinado valor dentro del arreglo de cadenas
-     * @param cadena La cadena que se va eliminar
+     * Reinicia el arreglo de enteros con los valores de 'valores' truncados, convirtiéndolos por bloques de tamaño fijo
+     * @param valores Un iterador de valores decimales
      */
-    public void eliminarCadena( String cadena )
-    {String[] nuevoArreglo = new String[arregloCadenas.length];
-    int index = 0;
-    for (String s : arregloCadenas) {
-        if (!s.equalsIgnoreCase(cadena)) {
-            nuevoArreglo[index++] = s;
-        }
+    public void reiniciarArregloEnteros( PrimitiveIterator.OfDouble valores )
+    {
+        vaciarEnteros( 0 );
+        LectorDoubles.leer( valores, this::agregarDecimales );
     }
-    arregloCadenas = Arrays.copyOf(nuevoArreglo, index);
-}
-
-    
 
     /**
-     * Inserta un nuevo entero en el arreglo de enteros.
+     * Reinicia el arreglo de enteros con los valores truncados de un canal que contiene doubles de 8 bytes en orden little-endian, leyéndolos y convirtiéndolos
+     * por bloques de tamaño fijo hasta llegar al final del canal.
      * 
-     * @param entero El nuevo valor que debe agregarse
-     * @param posicion La posición donde debe quedar el nuevo valor en el arreglo aumentado. Si la posición es menor a 0, se inserta el valor en la primera posición. Si la
-     *        posición es mayor que el tamaño del arreglo, se inserta el valor en la última posición.
+     * Si el canal permite saber su tamaño (por ejemplo un FileChannel), el arreglo de enteros se crea una sola vez con ese tamaño. Si hay un error, el arreglo
+     * queda con los valores leídos hasta ese momento.
+     * @param canal El canal. No se cierra al terminar.
+     * @throws IOException Si hay un problema leyendo el canal o si el canal termina en medio de un valor
      */
-    public void insertarEntero( int entero, int posicion )
-    {  int[] nuevoArreglo = new int[arregloEnteros.length + 1];
-    if (posicion < 0) {
-        posicion = 0;
-    } else if (posicion > arregloEnteros.length) {
-        posicion = arregloEnteros.length;
-    }
-    System.arraycopy(arregloEnteros, 0, nuevoArreglo, 0, posicion);
-    nuevoArreglo[posicion] = entero;
-    System.arraycopy(arregloEnteros, posicion, nuevoArreglo, posicion + 1, arregloEnteros.length - posicion);
-    arregloEnteros = nuevoArreglo;
-}
-
-    
+    public void reiniciarArregloEnteros( ReadableByteChannel canal ) throws IOException
+    {
+        vaciarEnteros( LectorDoubles.estimarCantidad( canal ) );
+        LectorDoubles.leer( canal, this::agregarDecimales );
+    }
 
     /**
-     * Elimina un valor del arreglo de enteros dada su posición.
-     * @param posicion La posición donde está el elemento que debe ser eliminado. Si el parámetro posicion no corresponde a ninguna posición del arreglo de enteros, el método
-     *        no debe hacer nada.
+     * Deja el arreglo de enteros vacío, con la capacidad indicada
+     * @param capacidad La capacidad del nuevo arreglo
      */
-    public void eliminarEnteroPorPosicion( int posicion )
-    { if (posicion < 0 || posicion >= arregloEnteros.length) {
-        return;
-    }
-    int[] nuevoArreglo = new int[arregloEnteros.length - 1];
-    System.arraycopy(arregloEnteros, 0, nuevoArreglo, 0, posicion);
-    System.arraycopy(arregloEnteros, posicion + 1, nuevoArreglo, posicion, arregloEnteros.length - posicion - 1);
-    arregloEnteros = nuevoArreglo;
-
-
+    private void vaciarEnteros( int capacidad )
+    {
+        if( bufferEnteros != null )
+        {
+            bufferEnteros = new BufferEnteros( capacidad );
+        }
+        else
+        {
+            arregloEnteros = new int[capacidad];
+            enterosCompartidos = 0;
+        }
+        cantidadEnteros = 0;
+        enterosOrdenados = false;
     }
 
     /**
-     * Reinicia el arreglo de enteros con los valores contenidos en el arreglo del parámetro 'valores' truncados.
-     * 
-     * Es decir que si el valor fuera 3.67, en el nuevo arreglo de enteros debería quedar el entero 3.
-     * @param valores Un arreglo de valores decimales.
+     * Agrega al final del arreglo de enteros un bloque de valores decimales truncados
+     * @param valores El arreglo con los valores
+     * @param cantidad La cantidad de valores, que están en las primeras posiciones del arreglo
      */
-    public void reiniciarArregloEnteros( double[] valores )
-    {arregloEnteros = new int[valores.length];
-    for (int i = 0; i < valores.length; i++) {
-        arregloEnteros[i] = (int) Math.floor(valores[i]);
-    }
-
+    private void agregarDecimales( double[] valores, int cantidad )
+    {
+        asegurarCapacidadEnteros( cantidadEnteros + cantidad );
+        for( int i = 0; i < cantidad; i++ )
+        {
+            escribirEntero( cantidadEnteros + i, ( int )Math.floor( valores[ i ] ) );
+        }
+        cantidadEnteros += cantidad;
     }
 
     /**
@@ -192,10 +1243,30 @@ public class SandboxArreglos
      * @param valores Un arreglo de objetos
      */
     public void reiniciarArregloCadenas( Object[] objetos )
-    {arregloCadenas = new String[objetos.length];
+    {
+        if( diccionarioCadenas != null )
+        {
+            // Se empieza un diccionario nuevo para no conservar cadenas que ya no se usan
+            diccionarioCadenas = new DiccionarioCadenas( );
+            codigosCadenas = new int[objetos.length];
+            for( int i = 0; i < objetos.length; i++ )
+            {
+                codigosCadenas[ i ] = diccionarioCadenas.codificar( objetos[ i ].toString( ) );
+            }
+            cantidadCadenas = objetos.length;
+            cadenasOrdenadas = false;
+            indiceCadenas = null;
+            cadenasCompartidas = 0;
+            return;
+        }
+    arregloCadenas = new String[objetos.length];
     for (int i = 0; i < objetos.length; i++) {
         arregloCadenas[i] = objetos[i].toString();
     	}
+    cantidadCadenas = objetos.length;
+    cadenasOrdenadas = false;
+    indiceCadenas = null;
+    cadenasCompartidas = 0;
 
     }
 
@@ -205,27 +1276,148 @@ public class SandboxArreglos
      * Es decir que si en una posición había un valor negativo, después de ejecutar el método debe quedar el mismo valor muliplicado por -1.
      */
     public void volverPositivos( )
-    {for (int i = 0; i < arregloEnteros.length; i++) {
-        if (arregloEnteros[i] < 0) {
-            arregloEnteros[i] = -arregloEnteros[i];
+    {
+        if( bufferEnteros != null )
+        {
+            if( bufferEnteros.volverPositivos( cantidadEnteros ) )
+            {
+                enterosOrdenados = false;
+            }
+            return;
+        }
+        prepararEscrituraEnteros( 0 );
+        if( usarParalelo( cantidadEnteros ) )
+        {
+            int[] enteros = arregloEnteros;
+            poolParalelo.submit( ( ) -> IntStream.range( 0, cantidadEnteros ).parallel( ).forEach( i -> {
+                if( enteros[ i ] < 0 )
+                {
+                    enteros[ i ] = -enteros[ i ];
+                }
+            } ) ).join( );
+            enterosOrdenados = false;
+            return;
+        }
+        if( KernelesEnteros.volverPositivos( arregloEnteros, 0, cantidadEnteros ) )
+        {
+            enterosOrdenados = false;
         }
-      }  	
     }
 
     /**
      * Modifica el arreglo de enteros para que todos los valores queden organizados de menor a mayor.
+     * 
+     * El algoritmo se escoge automáticamente según la cantidad de enteros y el rango de sus valores.
      */
     public void organizarEnteros( )
     {
-    	  Arrays.sort(arregloEnteros);
+        organizarEnteros( EstrategiaOrdenamiento.AUTOMATICA );
+    }
+
+    /**
+     * Modifica el arreglo de enteros para que todos los valores queden organizados de menor a mayor, usando la estrategia indicada.
+     * 
+     * Si ya se sabe que el arreglo está organizado, no se hace nada. Con almacenamiento DIRECTO siempre se usa el ordenamiento del buffer, sin importar la
+     * estrategia.
+     * @param estrategia El algoritmo de ordenamiento que se debe usar
+     * @throws IllegalArgumentException Si la estrategia es CONTEO y el rango de los valores es demasiado grande para contarlos
+     */
+    public void organizarEnteros( EstrategiaOrdenamiento estrategia )
+    {
+        if( enterosOrdenados )
+        {
+            return;
+        }
+        if( bufferEnteros != null || cantidadEnteros < 2 )
+        {
+            if( bufferEnteros != null )
+            {
+                bufferEnteros.ordenar( cantidadEnteros );
+            }
+            enterosOrdenados = true;
+            return;
+        }
+
+        prepararEscrituraEnteros( 0 );
+        int[] rango = estrategia == EstrategiaOrdenamiento.JDK ? null : KernelesEnteros.calcularRango( arregloEnteros, 0, cantidadEnteros );
+        if( estrategia == EstrategiaOrdenamiento.AUTOMATICA )
+        {
+            estrategia = OrdenadorEnteros.escoger( cantidadEnteros, rango[ 0 ], rango[ 1 ] );
+        }
+
+        if( estrategia == EstrategiaOrdenamiento.CONTEO )
+        {
+            OrdenadorEnteros.ordenarPorConteo( arregloEnteros, 0, cantidadEnteros, rango[ 0 ], rango[ 1 ] );
+        }
+        else if( estrategia == EstrategiaOrdenamiento.RADIX )
+        {
+            OrdenadorEnteros.ordenarRadix( arregloEnteros, 0, cantidadEnteros, rango[ 0 ], rango[ 1 ] );
+        }
+        else if( usarParalelo( cantidadEnteros ) )
+        {
+            poolParalelo.submit( ( ) -> Arrays.parallelSort( arregloEnteros, 0, cantidadEnteros ) ).join( );
+        }
+        else
+        {
+            Arrays.sort( arregloEnteros, 0, cantidadEnteros );
+        }
+        enterosOrdenados = true;
     }
 
     /**
      * Modifica el arreglo de cadenas para que todos los valores queden organizados lexicográficamente.
+     * @throws NullPointerException Si hay que comparar una cadena null, tanto con el diccionario activo como sin él
      */
     public void organizarCadenas( )
     {
-    	Arrays.sort(arregloCadenas, String.CASE_INSENSITIVE_ORDER);
+        if( diccionarioCadenas != null )
+        {
+            organizarCodigos( );
+        }
+        else if( usarParalelo( cantidadCadenas ) )
+        {
+            prepararEscrituraCadenas( 0 );
+            poolParalelo.submit( ( ) -> Arrays.parallelSort( arregloCadenas, 0, cantidadCadenas, String.CASE_INSENSITIVE_ORDER ) ).join( );
+        }
+        else
+        {
+            prepararEscrituraCadenas( 0 );
+            Arrays.sort( arregloCadenas, 0, cantidadCadenas, String.CASE_INSENSITIVE_ORDER );
+        }
+        cadenasOrdenadas = true;
+        indiceCadenas = null;
+    }
+
+    /**
+     * En modo diccionario, organiza el arreglo de códigos según el orden de sus cadenas. Sólo se comparan las cadenas diferentes del diccionario; el arreglo se
+     * organiza con un ordenamiento por conteo estable, así que el resultado es el mismo que el de ordenar las cadenas.
+     * @throws NullPointerException Si hay más de una cadena y alguna es null, igual que al ordenar el arreglo de cadenas. En ese caso no se modifica nada.
+     */
+    private void organizarCodigos( )
+    {
+        int[] rangos = diccionarioCadenas.calcularRangos( );
+        int[] inicios = new int[rangos.length + 1];
+        for( int i = 0; i < cantidadCadenas; i++ )
+        {
+            int codigo = codigosCadenas[ i ];
+            if( cantidadCadenas > 1 && diccionarioCadenas.decodificar( codigo ) == null )
+            {
+                throw new NullPointerException( "No se puede organizar una cadena null (posición " + i + ")" );
+            }
+            inicios[ rangos[ codigo ] + 1 ]++;
+        }
+        for( int rango = 1; rango < inicios.length; rango++ )
+        {
+            inicios[ rango ] += inicios[ rango - 1 ];
+        }
+        int[] organizados = new int[codigosCadenas.length];
+        for( int i = 0; i < cantidadCadenas; i++ )
+        {
+            int codigo = codigosCadenas[ i ];
+            organizados[ inicios[ rangos[ codigo ] ]++ ] = codigo;
+        }
+        codigosCadenas = organizados;
+        cadenasCompartidas = 0;
     }
 
     /**
@@ -234,13 +1426,21 @@ public class SandboxArreglos
      * @return La cantidad de veces que aparece el valor
      */
     public int contarApariciones( int valor )
-    { int count = 0;
-    for (int entero : arregloEnteros) {
-        if (entero == valor) {
-            count++;
-             }
+    {
+        if( enterosOrdenados )
+        {
+            return limiteSuperior( valor ) - limiteInferior( valor );
+        }
+        if( bufferEnteros != null )
+        {
+            return bufferEnteros.contar( cantidadEnteros, valor );
+        }
+        if( usarParalelo( cantidadEnteros ) )
+        {
+            long apariciones = poolParalelo.submit( ( ) -> Arrays.stream( arregloEnteros, 0, cantidadEnteros ).parallel( ).filter( n -> n == valor ).count( ) ).join( );
+            return ( int )apariciones;
         }
-        return count;
+        return KernelesEnteros.contar( arregloEnteros, 0, cantidadEnteros, valor );
     }
 
     /**
@@ -248,17 +1448,100 @@ public class SandboxArreglos
      * 
      * La búsqueda no debe diferenciar entre mayúsculas y minúsculas.
      * @param cadena La cadena buscada
-     * @return La cantidad de veces que aparece la cadena
+     * @return La cantidad de veces que aparece la cadena, o 0 si la cadena es null
      */
     public int contarApariciones( String cadena )
-    {      int count = 0;
-    for (String s : arregloCadenas) {
-        if (s.equalsIgnoreCase(cadena)) {
+    {
+        if( cadena == null )
+        {
+            // Ninguna cadena es igual a null, y la búsqueda binaria no puede comparar contra null
+            return 0;
+        }
+        IndiceCadenas indice = obtenerIndiceCadenas( );
+        if( indice != null )
+        {
+            return indice.contar( cadena );
+        }
+        if( cadenasOrdenadas )
+        {
+            return limiteSuperior( cadena ) - limiteInferior( cadena );
+        }
+        if( diccionarioCadenas != null )
+        {
+            boolean[] coincidencias = diccionarioCadenas.buscarCoincidencias( cadena );
+            int apariciones = 0;
+            for( int i = 0; i < cantidadCadenas; i++ )
+            {
+                if( coincidencias[ codigosCadenas[ i ] ] )
+                {
+                    apariciones++;
+                }
+            }
+            return apariciones;
+        }
+        if( usarParalelo( cantidadCadenas ) )
+        {
+            long apariciones = poolParalelo.submit( ( ) -> Arrays.stream( arregloCadenas, 0, cantidadCadenas ).parallel( ).filter( s -> s.equalsIgnoreCase( cadena ) ).count( ) ).join( );
+            return ( int )apariciones;
+        }
+        int count = 0;
+    for (int i = 0; i < cantidadCadenas; i++) {
+        if (arregloCadenas[i].equalsIgnoreCase(cadena)) {
             count++;
         }
     }
     return count;
 }
+
+    /**
+     * Busca en qué posiciones del arreglo de cadenas se encuentra la cadena recibida, sin diferenciar entre mayúsculas y minúsculas
+     * @param cadena La cadena que se debe buscar
+     * @return Un arreglo con las posiciones en orden creciente. Si la cadena no se encuentra o es null, el arreglo retornado es de tamaño 0.
+     */
+    public int[] buscarCadena( String cadena )
+    {
+        if( cadena == null )
+        {
+            return new int[0];
+        }
+        IndiceCadenas indice = obtenerIndiceCadenas( );
+        if( indice != null )
+        {
+            return indice.buscar( cadena );
+        }
+        if( cadenasOrdenadas )
+        {
+            int inicio = limiteInferior( cadena );
+            int[] posiciones = new int[limiteSuperior( cadena ) - inicio];
+            for( int i = 0; i < posiciones.length; i++ )
+            {
+                posiciones[ i ] = inicio + i;
+            }
+            return posiciones;
+        }
+        int[] posiciones = new int[cantidadCadenas];
+        int encontradas = 0;
+        if( diccionarioCadenas != null )
+        {
+            boolean[] coincidencias = diccionarioCadenas.buscarCoincidencias( cadena );
+            for( int i = 0; i < cantidadCadenas; i++ )
+            {
+                if( coincidencias[ codigosCadenas[ i ] ] )
+                {
+                    posiciones[ encontradas++ ] = i;
+                }
+            }
+            return Arrays.copyOf( posiciones, encontradas );
+        }
+        for( int i = 0; i < cantidadCadenas; i++ )
+        {
+            if( arregloCadenas[ i ] != null && arregloCadenas[ i ].equalsIgnoreCase( cadena ) )
+            {
+                posiciones[ encontradas++ ] = i;
+            }
+        }
+        return Arrays.copyOf( posiciones, encontradas );
+    }
        
     
 
@@ -269,15 +1552,119 @@ public class SandboxArreglos
      *         es de tamaño 0.
      */
     public int[] buscarEntero( int valor )
-    {int[] posiciones = new int[arregloEnteros.length];
-    int index = 0;
-    for (int i = 0; i < arregloEnteros.length; i++) {
-        if (arregloEnteros[i] == valor) {
-            posiciones[index++] = i;
+    {
+        if( enterosOrdenados )
+        {
+            int desde = limiteInferior( valor );
+            int hasta = limiteSuperior( valor );
+            int[] posiciones = new int[hasta - desde];
+            for( int i = 0; i < posiciones.length; i++ )
+            {
+                posiciones[ i ] = desde + i;
+            }
+            return posiciones;
         }
+        if( bufferEnteros != null )
+        {
+            return bufferEnteros.buscar( cantidadEnteros, valor );
+        }
+        return KernelesEnteros.buscar( arregloEnteros, 0, cantidadEnteros, valor );
     }
-    return Arrays.copyOf(posiciones, index);
-       
+
+    /**
+     * Busca, en el arreglo de enteros ordenado, la primera posición cuyo valor es mayor o igual al valor buscado.
+     * @param valor El valor buscado
+     * @return La primera posición con un valor mayor o igual, o cantidadEnteros si no existe
+     */
+    private int limiteInferior( int valor )
+    {
+        int bajo = 0;
+        int alto = cantidadEnteros;
+        while( bajo < alto )
+        {
+            int medio = ( bajo + alto ) >>> 1;
+            if( leerEntero( medio ) < valor )
+            {
+                bajo = medio + 1;
+            }
+            else
+            {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    /**
+     * Busca, en el arreglo de enteros ordenado, la primera posición cuyo valor es estrictamente mayor al valor buscado.
+     * @param valor El valor buscado
+     * @return La primera posición con un valor mayor, o cantidadEnteros si no existe
+     */
+    private int limiteSuperior( int valor )
+    {
+        int bajo = 0;
+        int alto = cantidadEnteros;
+        while( bajo < alto )
+        {
+            int medio = ( bajo + alto ) >>> 1;
+            if( leerEntero( medio ) <= valor )
+            {
+                bajo = medio + 1;
+            }
+            else
+            {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    /**
+     * Busca, en el arreglo de cadenas ordenado, la primera posición cuya cadena es mayor o igual a la buscada sin diferenciar mayúsculas y minúsculas.
+     * @param cadena La cadena buscada
+     * @return La primera posición con una cadena mayor o igual, o cantidadCadenas si no existe
+     */
+    private int limiteInferior( String cadena )
+    {
+        int bajo = 0;
+        int alto = cantidadCadenas;
+        while( bajo < alto )
+        {
+            int medio = ( bajo + alto ) >>> 1;
+            if( String.CASE_INSENSITIVE_ORDER.compare( leerCadena( medio ), cadena ) < 0 )
+            {
+                bajo = medio + 1;
+            }
+            else
+            {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+
+    /**
+     * Busca, en el arreglo de cadenas ordenado, la primera posición cuya cadena es estrictamente mayor a la buscada sin diferenciar mayúsculas y minúsculas.
+     * @param cadena La cadena buscada
+     * @return La primera posición con una cadena mayor, o cantidadCadenas si no existe
+     */
+    private int limiteSuperior( String cadena )
+    {
+        int bajo = 0;
+        int alto = cantidadCadenas;
+        while( bajo < alto )
+        {
+            int medio = ( bajo + alto ) >>> 1;
+            if( String.CASE_INSENSITIVE_ORDER.compare( leerCadena( medio ), cadena ) <= 0 )
+            {
+                bajo = medio + 1;
+            }
+            else
+            {
+                alto = medio;
+            }
+        }
+        return bajo;
     }
 
     /**
@@ -286,20 +1673,20 @@ public class SandboxArreglos
      *         en el arreglo de enteros. Si el arreglo está vacío, debe retornar un arreglo vacío.
      */
     public int[] calcularRangoEnteros( )
-    {if (arregloEnteros.length == 0) {
+    {if (cantidadEnteros == 0) {
         return new int[]{};
     }
-    int min = arregloEnteros[0];
-    int max = arregloEnteros[0];
-    for (int entero : arregloEnteros) {
-        if (entero < min) {
-            min = entero;
-        }
-        if (entero > max) {
-            max = entero;
-        }
+    if (enterosOrdenados) {
+        return new int[]{leerEntero(0), leerEntero(cantidadEnteros - 1)};
+    }
+    if (bufferEnteros != null) {
+        return bufferEnteros.calcularRango(cantidadEnteros);
     }
-    return new int[]{min, max};
+    if (usarParalelo(cantidadEnteros)) {
+        IntSummaryStatistics estadisticas = poolParalelo.submit( ( ) -> Arrays.stream( arregloEnteros, 0, cantidadEnteros ).parallel( ).summaryStatistics( ) ).join( );
+        return new int[]{estadisticas.getMin(), estadisticas.getMax()};
+    }
+    return KernelesEnteros.calcularRango(arregloEnteros, 0, cantidadEnteros);
 }
       
     
@@ -310,12 +1697,36 @@ public class SandboxArreglos
      * @return Un mapa con el histograma de valores.
      */
     public HashMap<Integer, Integer> calcularHistograma( )
-    {HashMap<Integer, Integer> histograma = new HashMap<>();
-    for (int entero : arregloEnteros) {
-        histograma.put(entero, histograma.getOrDefault(entero, 0) + 1);
+    {
+        return calcularHistogramaEnteros( ).aMapa( );
+    }
+
+    /**
+     * Calcula un histograma de los valores del arreglo de enteros sin convertir los valores a objetos.
+     * 
+     * Si el rango de los valores es estrecho comparado con la cantidad de enteros, el histograma usa un arreglo de conteos; de lo contrario usa una tabla de hash de
+     * enteros primitivos.
+     * @return El histograma de los valores del arreglo de enteros
+     */
+    public HistogramaEnteros calcularHistogramaEnteros( )
+    {
+        if( cantidadEnteros == 0 )
+        {
+            return new HistogramaEnteros( );
+        }
+        int[] rango = calcularRangoEnteros( );
+        if( bufferEnteros != null )
+        {
+            HistogramaEnteros histograma = HistogramaEnteros.esRangoEstrecho( cantidadEnteros, rango[ 0 ], rango[ 1 ] ) ? new HistogramaEnteros( rango[ 0 ], rango[ 1 ] )
+                    : new HistogramaEnteros( );
+            for( int i = 0; i < cantidadEnteros; i++ )
+            {
+                histograma.agregar( bufferEnteros.leer( i ) );
+            }
+            return histograma;
+        }
+        return HistogramaEnteros.calcular( arregloEnteros, cantidadEnteros, rango[ 0 ], rango[ 1 ] );
     }
-    return histograma;
-}
 
  
     /**
@@ -323,15 +1734,9 @@ public class SandboxArreglos
      * @return La cantidad de enteos diferentes que aparecen más de una vez
      */
     public int contarEnterosRepetidos( )
-    {HashMap<Integer, Integer> histograma = calcularHistograma();
-    int count = 0;
-    for (int apariciones : histograma.values()) {
-        if (apariciones > 1) {
-            count++;
-        }
+    {
+        return calcularHistogramaEnteros( ).contarRepetidos( );
     }
-    return count;
-}
        
 
     /**
@@ -341,31 +1746,55 @@ public class SandboxArreglos
      */
     public boolean compararArregloEnteros( int[] otroArreglo )
     {
-      return Arrays.equals(arregloEnteros, otroArreglo);
+        if( otroArreglo == null || otroArreglo.length != cantidadEnteros )
+        {
+            return false;
+        }
+        for( int i = 0; i < cantidadEnteros; i++ )
+        {
+            if( leerEntero( i ) != otroArreglo[ i ] )
+            {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Compara el arreglo de enteros con otro arreglo de enteros y verifica que tengan los mismos elementos, aunque podría ser en otro orden.
+     * 
+     * Primero se comparan los tamaños y una huella que no depende del orden, lo cual descarta rápidamente la mayoría de arreglos diferentes. Luego se cuentan los
+     * valores del arreglo de enteros en un histograma y se descuentan los del otro arreglo, deteniéndose en el primer valor que sobre. Ninguno de los dos arreglos se
+     * copia ni se ordena.
      * @param otroArreglo El arreglo de enteros con el que se debe comparar
      * @return True si los elementos en los dos arreglos son los mismos
      */
     public boolean mismosEnteros( int[] otroArreglo )
-    { if (arregloEnteros.length != otroArreglo.length) {
-        return false;
-    }
-    int[] copiaArreglo1 = Arrays.copyOf(arregloEnteros, arregloEnteros.length);
-    int[] copiaArreglo2 = Arrays.copyOf(otroArreglo, otroArreglo.length);
-    Arrays.sort(copiaArreglo1);
-    Arrays.sort(copiaArreglo2);
-    return Arrays.equals(copiaArreglo1, copiaArreglo2);
-}
-      
-    
+    {
+        if( cantidadEnteros != otroArreglo.length )
+        {
+            return false;
+        }
+        if( bufferEnteros == null && HistogramaEnteros.calcularHuella( arregloEnteros, cantidadEnteros ) != HistogramaEnteros.calcularHuella( otroArreglo, otroArreglo.length ) )
+        {
+            return false;
+        }
+        HistogramaEnteros histograma = calcularHistogramaEnteros( );
+        for( int valor : otroArreglo )
+        {
+            if( !histograma.quitar( valor ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
 
     /**
      * Cambia los elementos del arreglo de enteros por una nueva serie de valores generada de forma aleatoria.
      * 
-     * Para generar los valores se debe partir de una distribución uniforme usando Math.random().
+     * Para generar los valores se parte de una distribución uniforme, usando un generador SplittableRandom con una semilla escogida al azar.
      * 
      * Los números en el arreglo deben quedar entre el valor mínimo y el máximo.
      * @param cantidad La cantidad de elementos que debe haber en el arreglo
@@ -373,11 +1802,186 @@ public class SandboxArreglos
      * @param maximo El valor máximo para los números generados
      */
     public void generarEnteros( int cantidad, int minimo, int maximo )
-    {     arregloEnteros = new int[cantidad];
-    for (int i = 0; i < cantidad; i++) {
-        arregloEnteros[i] = (int) (Math.random() * (maximo - minimo + 1)) + minimo;
+    {
+        generarEnteros( cantidad, minimo, maximo, new SplittableRandom( ) );
     }
-  }
-}
 
-   
\ No newline at end of file
+    /**
+     * Cambia los elementos del arreglo de enteros por una nueva serie de valores generada de forma aleatoria a partir de una semilla. Dos llamados con la misma semilla
+     * producen los mismos valores.
+     * @param cantidad La cantidad de elementos que debe haber en el arreglo
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param semilla La semilla para el generador de números aleatorios
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo, long semilla )
+    {
+        generarEnteros( cantidad, minimo, maximo, new SplittableRandom( semilla ) );
+    }
+
+    /**
+     * Cambia los elementos del arreglo de enteros por una nueva serie de valores tomados de una distribución uniforme entre el valor mínimo y el máximo.
+     * 
+     * Si el modo paralelo está activo y la cantidad alcanza el umbral, los valores se generan en paralelo con generadores derivados de 'aleatorio'. El resultado es el
+     * mismo que si se generaran en secuencia.
+     * @param cantidad La cantidad de elementos que debe haber en el arreglo
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param aleatorio El generador de números aleatorios
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo, SplittableRandom aleatorio )
+    {
+        if( bufferEnteros != null )
+        {
+            BufferEnteros nuevo = new BufferEnteros( cantidad );
+            GeneradorEnteros.llenarUniforme( nuevo.getEnteros( ), cantidad, minimo, maximo, aleatorio, false );
+            bufferEnteros = nuevo;
+            cantidadEnteros = cantidad;
+            enterosOrdenados = false;
+            return;
+        }
+        int[] enteros = new int[cantidad];
+        if( usarParalelo( cantidad ) )
+        {
+            poolParalelo.submit( ( ) -> GeneradorEnteros.llenarUniforme( enteros, cantidad, minimo, maximo, aleatorio, true ) ).join( );
+        }
+        else
+        {
+            GeneradorEnteros.llenarUniforme( enteros, cantidad, minimo, maximo, aleatorio, false );
+        }
+        arregloEnteros = enteros;
+        enterosCompartidos = 0;
+        cantidadEnteros = cantidad;
+        enterosOrdenados = false;
+    }
+
+    /**
+     * Cambia los elementos del arreglo de enteros por una serie de valores diferentes entre sí, escogidos al azar entre el valor mínimo y el máximo.
+     * @param cantidad La cantidad de elementos que debe haber en el arreglo
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param aleatorio El generador de números aleatorios
+     * @throws IllegalArgumentException Si entre el mínimo y el máximo no hay suficientes valores diferentes
+     */
+    public void generarEnterosDistintos( int cantidad, int minimo, int maximo, SplittableRandom aleatorio )
+    {
+        int[] enteros = new int[cantidad];
+        GeneradorEnteros.llenarDistintos( enteros, cantidad, minimo, maximo, aleatorio );
+        establecerEnteros( enteros );
+    }
+
+    /**
+     * Cambia los elementos del arreglo de enteros por una serie de valores entre el mínimo y el máximo que siguen una distribución de Zipf, en la que los valores
+     * cercanos al mínimo son mucho más frecuentes que los cercanos al máximo.
+     * @param cantidad La cantidad de elementos que debe haber en el arreglo
+     * @param minimo El valor mínimo (y más frecuente) para los números generados
+     * @param maximo El valor máximo (y menos frecuente) para los números generados
+     * @param exponente El exponente de la distribución, mayor a 0
+     * @param aleatorio El generador de números aleatorios
+     */
+    public void generarEnterosZipf( int cantidad, int minimo, int maximo, double exponente, SplittableRandom aleatorio )
+    {
+        int[] enteros = new int[cantidad];
+        GeneradorEnteros.llenarZipf( enteros, cantidad, minimo, maximo, exponente, aleatorio );
+        establecerEnteros( enteros );
+    }
+
+    /**
+     * Guarda el arreglo de enteros en un archivo binario, que luego puede abrirse con cargar.
+     *
+     * El archivo tiene un encabezado de 16 bytes (un número para reconocer el formato, la versión, la cantidad de enteros y si están ordenados) seguido de los
+     * enteros. Todos los valores se escriben en orden little-endian. El arreglo de cadenas no se guarda.
+     * @param archivo La ruta del archivo. Si ya existe, se reemplaza su contenido.
+     * @throws IOException Si hay un problema escribiendo el archivo
+     */
+    public void guardar( Path archivo ) throws IOException
+    {
+        try( FileChannel canal = FileChannel.open( archivo, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE ) )
+        {
+            ByteBuffer bloque = ByteBuffer.allocateDirect( ENTEROS_POR_ESCRITURA * Integer.BYTES ).order( ByteOrder.LITTLE_ENDIAN );
+            IntBuffer enterosBloque = bloque.asIntBuffer( );
+
+            bloque.putInt( MAGIA_ARCHIVO ).putInt( VERSION_ARCHIVO ).putInt( cantidadEnteros ).putInt( enterosOrdenados ? BANDERA_ORDENADOS : 0 );
+            bloque.flip( );
+            escribirCompleto( canal, bloque );
+
+            for( int desde = 0; desde < cantidadEnteros; desde += ENTEROS_POR_ESCRITURA )
+            {
+                int cantidad = Math.min( ENTEROS_POR_ESCRITURA, cantidadEnteros - desde );
+                enterosBloque.clear( );
+                if( bufferEnteros != null )
+                {
+                    bufferEnteros.copiarA( desde, enterosBloque, cantidad );
+                }
+                else
+                {
+                    enterosBloque.put( arregloEnteros, desde, cantidad );
+                }
+                bloque.clear( );
+                bloque.limit( cantidad * Integer.BYTES );
+                escribirCompleto( canal, bloque );
+            }
+        }
+    }
+
+    /**
+     * Escribe en el canal todos los bytes que le quedan al buffer
+     * @param canal El canal donde se escribe
+     * @param bytes Los bytes que se escriben
+     * @throws IOException Si hay un problema escribiendo
+     */
+    private static void escribirCompleto( FileChannel canal, ByteBuffer bytes ) throws IOException
+    {
+        while( bytes.hasRemaining( ) )
+        {
+            canal.write( bytes );
+        }
+    }
+
+    /**
+     * Reemplaza el arreglo de enteros por el que está guardado en un archivo creado con guardar.
+     *
+     * El archivo se mapea en memoria en lugar de leerse completo, así que abrirlo toma lo mismo sin importar su tamaño: el sistema operativo lee cada parte del
+     * archivo la primera vez que se consulta. Después de cargar, el almacenamiento de los enteros es DIRECTO. La primera operación que modifica los enteros los
+     * copia a memoria directa, de modo que el archivo nunca se modifica. El arreglo de cadenas no cambia.
+     * @param archivo La ruta del archivo
+     * @throws IOException Si hay un problema leyendo el archivo, si no tiene el formato esperado o si tiene más enteros de los que se pueden mapear
+     */
+    public void cargar( Path archivo ) throws IOException
+    {
+        try( FileChannel canal = FileChannel.open( archivo, StandardOpenOption.READ ) )
+        {
+            ByteBuffer encabezado = ByteBuffer.allocate( TAMANIO_ENCABEZADO ).order( ByteOrder.LITTLE_ENDIAN );
+            while( encabezado.hasRemaining( ) && canal.read( encabezado ) >= 0 )
+            {
+                // Se sigue leyendo hasta completar el encabezado o llegar al final del archivo
+            }
+            if( encabezado.hasRemaining( ) || encabezado.getInt( 0 ) != MAGIA_ARCHIVO )
+            {
+                throw new IOException( "El archivo " + archivo + " no fue creado con SandboxArreglos.guardar" );
+            }
+            if( encabezado.getInt( Integer.BYTES ) != VERSION_ARCHIVO )
+            {
+                throw new IOException( "La versión del archivo " + archivo + " no está soportada: " + encabezado.getInt( Integer.BYTES ) );
+            }
+            int cantidad = encabezado.getInt( 2 * Integer.BYTES );
+            boolean ordenados = ( encabezado.getInt( 3 * Integer.BYTES ) & BANDERA_ORDENADOS ) != 0;
+            long bytesEnteros = ( long )cantidad * Integer.BYTES;
+            if( cantidad < 0 || canal.size( ) < TAMANIO_ENCABEZADO + bytesEnteros )
+            {
+                throw new IOException( "El archivo " + archivo + " está incompleto" );
+            }
+            if( cantidad > BufferEnteros.CAPACIDAD_MAXIMA )
+            {
+                throw new IOException( "El archivo " + archivo + " tiene demasiados enteros para mapearlo en memoria: " + cantidad );
+            }
+
+            IntBuffer enteros = canal.map( FileChannel.MapMode.READ_ONLY, TAMANIO_ENCABEZADO, bytesEnteros ).order( ByteOrder.LITTLE_ENDIAN ).asIntBuffer( );
+            bufferEnteros = new BufferEnteros( enteros );
+            arregloEnteros = new int[]{};
+            enterosCompartidos = 0;
+            cantidadEnteros = cantidad;
+            enterosOrdenados = ordenados;
+        }
+    }
+}
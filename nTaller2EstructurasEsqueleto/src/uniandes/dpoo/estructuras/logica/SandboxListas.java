@@ -1,8 +1,19 @@
 package uniandes.dpoo.estructuras.logica;
 
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.DoubleStream;
 
 
 
@@ -11,7 +22,10 @@ import java.util.List;
  *
  * Todos los métodos deben operar sobre los atributos listaEnteros y listaCadenas.
  * 
- * No pueden agregarse nuevos atributos.
+ * Además de las dos listas, la clase puede mantener estadísticas de la lista de enteros que se actualizan con cada cambio (ver activarEstadisticasEnteros).
+ * 
+ * Los métodos getVista* retornan vistas de sólo lectura sin copiar las listas; una lista se copia la primera vez que se modifica alguna posición que ve una
+ * vista (con TipoLista.ENLAZADA, cualquier modificación).
  * 
  * Implemente los métodos usando operaciones sobre listas (ie., no haga cosas como construir arreglos para evitar la manipulación de listas).
  * 
@@ -19,23 +33,222 @@ import java.util.List;
  */
 public class SandboxListas
 {
+    /**
+     * Cantidad mínima de enteros a partir de la cual generarEnteros reparte la generación entre varios hilos en modo paralelo, si no se indica otra.
+     */
+    public static final int UMBRAL_PARALELO_POR_DEFECTO = 1 << 16;
+
     /**
      * Una lista de enteros para realizar varias de las siguientes operaciones.
+     * 
+     * Es una IntList, que guarda los valores como int sin crear objetos Integer.
      */
-    private List<Integer> listaEnteros;
+    private IntList listaEnteros;
 
     /**
      * Una lista de cadenas para realizar varias de las siguientes operaciones
      */
     private List<String> listaCadenas;
 
+    /**
+     * Las estadísticas de la lista de enteros que se actualizan con cada cambio, o null si el modo de estadísticas incrementales no está activo
+     */
+    private EstadisticasEnteros estadisticasEnteros;
+
+    /**
+     * Cantidad de posiciones iniciales de la lista de cadenas que ven las vistas creadas con getVistaCadenas. Antes de modificar alguna de esas posiciones hay
+     * que copiar la lista. Con TipoLista.ENLAZADA la vista es la lista completa, así que es Integer.MAX_VALUE y cualquier cambio copia la lista.
+     */
+    private int cadenasCompartidas;
+
+    /**
+     * El pool de hilos donde generarEnteros reparte la generación, o null si el modo paralelo no está activo
+     */
+    private ForkJoinPool poolParalelo;
+
+    /**
+     * Cantidad mínima de enteros que debe generarse para que la generación se reparta entre los hilos del pool
+     */
+    private int umbralParalelo = Integer.MAX_VALUE;
+
     /**
      * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías
      */
     public SandboxListas( )
     {
-        listaEnteros = new ArrayList<Integer>( );
-        listaCadenas = new LinkedList<String>( );
+        this( TipoLista.ENLAZADA );
+    }
+
+    /**
+     * Crea una nueva instancia de la clase con las dos listas inicializadas pero vacías, usando el tipo de lista indicado para la lista de cadenas
+     * @param tipoCadenas El tipo de lista para la lista de cadenas
+     */
+    public SandboxListas( TipoLista tipoCadenas )
+    {
+        listaEnteros = new IntList( );
+        listaCadenas = crearListaCadenas( tipoCadenas );
+    }
+
+    /**
+     * Crea una lista de cadenas vacía del tipo indicado
+     * @param tipo El tipo de lista
+     * @return La nueva lista
+     */
+    private static List<String> crearListaCadenas( TipoLista tipo )
+    {
+        switch( tipo )
+        {
+            case ARREGLO:
+                return new ArrayList<String>( );
+            case BLOQUES:
+                return new ListaPorBloques<String>( );
+            default:
+                return new LinkedList<String>( );
+        }
+    }
+
+    /**
+     * Retorna el tipo de lista que se está usando para la lista de cadenas
+     * @return El tipo de la lista de cadenas
+     */
+    public TipoLista getTipoListaCadenas( )
+    {
+        if( listaCadenas instanceof ListaPorBloques )
+        {
+            return TipoLista.BLOQUES;
+        }
+        return listaCadenas instanceof LinkedList ? TipoLista.ENLAZADA : TipoLista.ARREGLO;
+    }
+
+    /**
+     * Cambia el tipo de lista que se usa para la lista de cadenas, conservando las cadenas y su orden
+     * @param tipo El nuevo tipo de lista
+     */
+    public void cambiarTipoListaCadenas( TipoLista tipo )
+    {
+        if( tipo != getTipoListaCadenas( ) )
+        {
+            List<String> nueva = crearListaCadenas( tipo );
+            nueva.addAll( listaCadenas );
+            listaCadenas = nueva;
+            cadenasCompartidas = 0;
+        }
+    }
+
+    /**
+     * Activa el modo de estadísticas incrementales: a partir de ahora cada cambio en la lista de enteros actualiza la frecuencia de cada valor, la suma, el
+     * mínimo y el máximo, así que contarApariciones( int ), contarEnterosRepetidos, calcularRangoEnteros y calcularSumaEnteros no tienen que recorrer la lista.
+     * 
+     * A cambio, agregar, insertar y eliminar enteros hace un poco más de trabajo y las frecuencias ocupan memoria adicional.
+     */
+    public void activarEstadisticasEnteros( )
+    {
+        if( estadisticasEnteros == null )
+        {
+            estadisticasEnteros = new EstadisticasEnteros( listaEnteros.getArregloInterno( ), listaEnteros.size( ) );
+        }
+    }
+
+    /**
+     * Desactiva el modo de estadísticas incrementales y libera su memoria
+     */
+    public void desactivarEstadisticasEnteros( )
+    {
+        estadisticasEnteros = null;
+    }
+
+    /**
+     * Indica si el modo de estadísticas incrementales está activo
+     * @return True si el modo está activo
+     */
+    public boolean estanEstadisticasEnterosActivas( )
+    {
+        return estadisticasEnteros != null;
+    }
+
+    /**
+     * Activa el modo paralelo usando el pool común de Java y el umbral por defecto.
+     * @see #activarModoParalelo(int, ForkJoinPool)
+     */
+    public void activarModoParalelo( )
+    {
+        activarModoParalelo( UMBRAL_PARALELO_POR_DEFECTO, ForkJoinPool.commonPool( ) );
+    }
+
+    /**
+     * Activa el modo paralelo: cuando generarEnteros deba generar al menos 'umbral' valores, la generación se reparte entre los hilos del pool. El resultado
+     * es el mismo que si los valores se generaran en secuencia.
+     * @param umbral La cantidad mínima de valores para usar varios hilos
+     * @param pool El pool de hilos donde se generan los valores
+     * @throws IllegalArgumentException Si el umbral es menor a 1
+     * @throws NullPointerException Si el pool es null
+     */
+    public void activarModoParalelo( int umbral, ForkJoinPool pool )
+    {
+        if( umbral < 1 )
+        {
+            throw new IllegalArgumentException( "El umbral para el modo paralelo debe ser mayor a 0" );
+        }
+        poolParalelo = Objects.requireNonNull( pool, "El pool para el modo paralelo no puede ser null" );
+        umbralParalelo = umbral;
+    }
+
+    /**
+     * Desactiva el modo paralelo, de forma que generarEnteros vuelve a ejecutarse sólo en el hilo que lo llama.
+     */
+    public void desactivarModoParalelo( )
+    {
+        poolParalelo = null;
+        umbralParalelo = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Indica si el modo paralelo está activo
+     * @return True si el modo paralelo está activo
+     */
+    public boolean estaEnModoParalelo( )
+    {
+        return poolParalelo != null;
+    }
+
+    /**
+     * Activa el modo de hueco de la lista de enteros: insertarEntero y eliminarEnteroPorPosicion dejan la capacidad libre de la lista en la posición
+     * modificada, así que varias inserciones o eliminaciones seguidas cerca de la misma posición toman O(1) amortizado cada una en lugar de desplazar todos
+     * los valores siguientes.
+     * 
+     * Las operaciones que recorren toda la lista, como organizarEnteros o contarEnterosRepetidos, primero mueven el hueco al final.
+     */
+    public void activarHuecoEnteros( )
+    {
+        listaEnteros.activarHueco( );
+    }
+
+    /**
+     * Desactiva el modo de hueco de la lista de enteros
+     */
+    public void desactivarHuecoEnteros( )
+    {
+        listaEnteros.desactivarHueco( );
+    }
+
+    /**
+     * Indica si el modo de hueco de la lista de enteros está activo
+     * @return True si el modo está activo
+     */
+    public boolean estaHuecoEnterosActivo( )
+    {
+        return listaEnteros.estaHuecoActivo( );
+    }
+
+    /**
+     * Vuelve a calcular las estadísticas incrementales, si están activas, después de reemplazar todos los valores de la lista de enteros
+     */
+    private void recalcularEstadisticasEnteros( )
+    {
+        if( estadisticasEnteros != null )
+        {
+            estadisticasEnteros = new EstadisticasEnteros( listaEnteros.getArregloInterno( ), listaEnteros.size( ) );
+        }
     }
 
     /**
@@ -44,7 +257,7 @@ public class SandboxListas
      */
     public List<Integer> getCopiaEnteros( )
     {
-        return new ArrayList<>(listaEnteros);
+        return new IntList( listaEnteros );
     }
 
     /**
@@ -56,18 +269,87 @@ public class SandboxListas
     	return new ArrayList<>(listaCadenas);
     }
 
+    /**
+     * Retorna una vista de sólo lectura de la lista de enteros, sin copiar sus valores. Los cambios posteriores a la lista de enteros no se ven en la vista.
+     * @return Una lista que no se puede modificar
+     */
+    public List<Integer> getVistaEnteros( )
+    {
+        return listaEnteros.snapshot( );
+    }
+
+    /**
+     * Retorna un IntBuffer de sólo lectura con los valores de la lista de enteros, sin copiarlos. Los cambios posteriores a la lista de enteros no se ven en
+     * el buffer.
+     * @return Un buffer de sólo lectura, con posición 0 y límite igual a la cantidad de enteros
+     */
+    public IntBuffer getVistaEnterosComoBuffer( )
+    {
+        return listaEnteros.snapshotBuffer( );
+    }
+
+    /**
+     * Retorna una vista de sólo lectura de la lista de cadenas, sin copiarla. Los cambios posteriores a la lista de cadenas no se ven en la vista.
+     * 
+     * Con TipoLista.ARREGLO y TipoLista.BLOQUES la vista sólo ve las cadenas que había al crearla: agregar cadenas al final no copia la lista, y sólo se copia
+     * la primera vez que se modifica alguna de esas posiciones. Con TipoLista.ENLAZADA consultar una posición de la vista tomaría O(N), así que la vista es la
+     * lista completa y cualquier modificación posterior, incluso agregar una cadena al final, copia toda la lista una vez (O(N)).
+     * @return Una lista que no se puede modificar
+     */
+    public List<String> getVistaCadenas( )
+    {
+        if( listaCadenas instanceof LinkedList )
+        {
+            cadenasCompartidas = Integer.MAX_VALUE;
+            return Collections.unmodifiableList( listaCadenas );
+        }
+        List<String> lista = listaCadenas;
+        int cantidad = lista.size( );
+        cadenasCompartidas = Math.max( cadenasCompartidas, cantidad );
+        // No se usa subList porque sus métodos fallan después de cualquier cambio a la lista, incluso si sólo se agregó una cadena al final
+        return new AbstractList<String>( )
+        {
+            @Override
+            public String get( int posicion )
+            {
+                if( posicion < 0 || posicion >= cantidad )
+                {
+                    throw new IndexOutOfBoundsException( "Posición: " + posicion + ", tamaño: " + cantidad );
+                }
+                return lista.get( posicion );
+            }
+
+            @Override
+            public int size( )
+            {
+                return cantidad;
+            }
+        };
+    }
+
+    /**
+     * Si alguna vista comparte la posición 'desde' de la lista de cadenas o alguna de las siguientes, reemplaza la lista por una copia del mismo tipo antes
+     * de modificarla a partir de esa posición
+     * @param desde La primera posición que se va a modificar
+     */
+    private void prepararEscrituraCadenas( int desde )
+    {
+        if( desde < cadenasCompartidas )
+        {
+            List<String> copia = crearListaCadenas( getTipoListaCadenas( ) );
+            copia.addAll( listaCadenas );
+            listaCadenas = copia;
+            cadenasCompartidas = 0;
+        }
+    }
+
     /**
      * Retorna un arreglo con los valores de la lista de enteros, es decir un arreglo del mismo tamaño que contiene copias de los valores de la lista
      * @return Una arreglo de enteros
      */
     public int[] getEnterosComoArreglo( )
     {
-    	int[] arreglo = new int[listaEnteros.size()];
-        for (int i = 0; i < listaEnteros.size(); i++)
-        {
-            arreglo[i] = listaEnteros.get(i);
-        }
-        return arreglo;
+        return listaEnteros.toIntArray( );
     }
 
     /**
@@ -96,7 +378,11 @@ public class SandboxListas
      */
     public void agregarEntero( int entero )
     {
-        listaEnteros.add(entero);;
+        listaEnteros.addInt( entero );
+        if( estadisticasEnteros != null )
+        {
+            estadisticasEnteros.agregar( entero );
+        }
     }
 
     /**
@@ -106,6 +392,7 @@ public class SandboxListas
      */
     public void  agregarCadena( String cadena )
     {
+        prepararEscrituraCadenas( listaCadenas.size( ) );
         listaCadenas.add(cadena);
     }
 
@@ -115,7 +402,91 @@ public class SandboxListas
      */
     public void eliminarEntero( int valor )
     {
-    	listaEnteros.removeIf(n -> n == valor);
+        if( estadisticasEnteros != null && estadisticasEnteros.quitarTodas( valor ) == 0 )
+        {
+            return;
+        }
+        listaEnteros.removeIntIf( n -> n == valor );
+    }
+
+    /**
+     * Elimina de la lista de enteros todas las apariciones de cualquiera de los valores recibidos, en un solo recorrido de la lista.
+     * 
+     * Los valores buscados se guardan en un histograma, así que cada elemento de la lista se revisa en tiempo constante sin importar cuántos valores se
+     * eliminen. Los valores que se conservan mantienen su orden relativo.
+     * @param valores Los valores que se van a eliminar
+     * @return La cantidad de elementos eliminados
+     */
+    public int eliminarEnteros( int... valores )
+    {
+        if( valores.length == 0 )
+        {
+            return 0;
+        }
+        if( estadisticasEnteros != null )
+        {
+            int eliminados = 0;
+            for( int valor : valores )
+            {
+                eliminados += estadisticasEnteros.quitarTodas( valor );
+            }
+            if( eliminados == 0 )
+            {
+                return 0;
+            }
+        }
+        HistogramaEnteros eliminar = crearConjunto( valores );
+        int antes = listaEnteros.size( );
+        listaEnteros.removeIntIf( n -> eliminar.getCantidad( n ) > 0 );
+        return antes - listaEnteros.size( );
+    }
+
+    /**
+     * Elimina de la lista de enteros todos los elementos que no sean alguno de los valores recibidos, en un solo recorrido de la lista.
+     * 
+     * Los valores que se conservan mantienen su orden relativo.
+     * @param valores Los valores que se van a conservar
+     * @return La cantidad de elementos eliminados
+     */
+    public int retenerEnteros( int... valores )
+    {
+        int antes = listaEnteros.size( );
+        if( valores.length == 0 )
+        {
+            listaEnteros.clear( );
+        }
+        else
+        {
+            HistogramaEnteros conservar = crearConjunto( valores );
+            listaEnteros.removeIntIf( n -> conservar.getCantidad( n ) == 0 );
+        }
+        int eliminados = antes - listaEnteros.size( );
+        if( eliminados > 0 )
+        {
+            recalcularEstadisticasEnteros( );
+        }
+        return eliminados;
+    }
+
+    /**
+     * Reemplaza cada elemento de la lista de enteros por el resultado de aplicarle la operación, en un solo recorrido de la lista y sin crear objetos Integer
+     * @param operacion La operación que calcula el nuevo valor de cada elemento a partir del anterior
+     */
+    public void reemplazarEnteros( IntUnaryOperator operacion )
+    {
+        listaEnteros.replaceAllInts( operacion );
+        recalcularEstadisticasEnteros( );
+    }
+
+    /**
+     * Crea un histograma con los valores recibidos, para consultar en tiempo constante si un entero es uno de ellos
+     * @param valores Los valores. No puede estar vacío.
+     * @return El histograma
+     */
+    private static HistogramaEnteros crearConjunto( int[] valores )
+    {
+        int[] rango = KernelesEnteros.calcularRango( valores, 0, valores.length );
+        return HistogramaEnteros.calcular( valores, valores.length, rango[ 0 ], rango[ 1 ] );
     }
 
     /**
@@ -124,9 +495,38 @@ public class SandboxListas
      */
     public void eliminarCadena( String cadena )
     {
+        prepararEscrituraCadenas( 0 );
     	 listaCadenas.removeIf(s -> s.equals(cadena));
     }
 
+    /**
+     * Inserta una nueva cadena en la lista de cadenas. Con TipoLista.ENLAZADA hay que recorrer la lista hasta la posición; con TipoLista.BLOQUES no.
+     * 
+     * @param cadena La nueva cadena que debe agregarse
+     * @param posicion La posición donde debe quedar la nueva cadena en la lista aumentada. Si la posición es menor a 0, se inserta la cadena en la primera
+     *        posición. Si la posición es mayor que el tamaño de la lista, se inserta la cadena en la última posición.
+     */
+    public void insertarCadena( String cadena, int posicion )
+    {
+        int destino = Math.max( 0, Math.min( posicion, listaCadenas.size( ) ) );
+        prepararEscrituraCadenas( destino );
+        listaCadenas.add( destino, cadena );
+    }
+
+    /**
+     * Elimina una cadena de la lista de cadenas dada su posición.
+     * @param posicion La posición donde está la cadena que debe ser eliminada. Si el parámetro posicion no corresponde a ninguna posición de la lista de cadenas,
+     *        el método no hace nada.
+     */
+    public void eliminarCadenaPorPosicion( int posicion )
+    {
+        if( posicion >= 0 && posicion < listaCadenas.size( ) )
+        {
+            prepararEscrituraCadenas( posicion );
+            listaCadenas.remove( posicion );
+        }
+    }
+
     /**
      * Inserta un nuevo entero en la lista de enteros
      * 
@@ -138,15 +538,19 @@ public class SandboxListas
     {
     	if (posicion < 0)
         {
-            listaEnteros.add(0, entero);
+            listaEnteros.addInt(0, entero);
         }
         else if (posicion >= listaEnteros.size())
         {
-            listaEnteros.add(entero);
+            listaEnteros.addInt(entero);
         }
         else
         {
-            listaEnteros.add(posicion, entero);
+            listaEnteros.addInt(posicion, entero);
+        }
+        if( estadisticasEnteros != null )
+        {
+            estadisticasEnteros.agregar( entero );
         }
     }
 
@@ -159,7 +563,11 @@ public class SandboxListas
     {
     	 if (posicion >= 0 && posicion < listaEnteros.size())
     	    {
-    	        listaEnteros.remove(posicion);
+    	        int eliminado = listaEnteros.removeIntAt(posicion);
+    	        if( estadisticasEnteros != null )
+    	        {
+    	            estadisticasEnteros.quitar( eliminado );
+    	        }
     	    }
 
     }
@@ -174,10 +582,67 @@ public class SandboxListas
     {
     	
     	    listaEnteros.clear();
+    	    listaEnteros.asegurarCapacidad(valores.length);
     	    for (double valor : valores)
     	    {
-    	        listaEnteros.add((int) valor);
+    	        listaEnteros.addInt((int) valor);
     	    }  
+    	    recalcularEstadisticasEnteros( );
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores de 'valores' truncados, igual que reiniciarArregloEnteros( double[] ), pero sin tener todos los valores
+     * decimales en memoria al mismo tiempo: se convierten por bloques de tamaño fijo.
+     * @param valores Un stream de valores decimales
+     */
+    public void reiniciarArregloEnteros( DoubleStream valores )
+    {
+        reiniciarArregloEnteros( valores.iterator( ) );
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores de 'valores' truncados, convirtiéndolos por bloques de tamaño fijo
+     * @param valores Un iterador de valores decimales
+     */
+    public void reiniciarArregloEnteros( PrimitiveIterator.OfDouble valores )
+    {
+        listaEnteros.clear( );
+        LectorDoubles.leer( valores, this::agregarDecimales );
+        recalcularEstadisticasEnteros( );
+    }
+
+    /**
+     * Reinicia la lista de enteros con los valores truncados de un canal que contiene doubles de 8 bytes en orden little-endian, leyéndolos y convirtiéndolos
+     * por bloques de tamaño fijo hasta llegar al final del canal.
+     * 
+     * Si hay un error, la lista queda con los valores leídos hasta ese momento.
+     * @param canal El canal. No se cierra al terminar.
+     * @throws IOException Si hay un problema leyendo el canal o si el canal termina en medio de un valor
+     */
+    public void reiniciarArregloEnteros( ReadableByteChannel canal ) throws IOException
+    {
+        listaEnteros.clear( );
+        try
+        {
+            LectorDoubles.leer( canal, this::agregarDecimales );
+        }
+        finally
+        {
+            recalcularEstadisticasEnteros( );
+        }
+    }
+
+    /**
+     * Agrega al final de la lista de enteros un bloque de valores decimales truncados
+     * @param valores El arreglo con los valores
+     * @param cantidad La cantidad de valores, que están en las primeras posiciones del arreglo
+     */
+    private void agregarDecimales( double[] valores, int cantidad )
+    {
+        for( int i = 0; i < cantidad; i++ )
+        {
+            listaEnteros.addInt( ( int )valores[ i ] );
+        }
     }
 
     /**
@@ -188,6 +653,12 @@ public class SandboxListas
      */
     public void reiniciarArregloCadenas( List<Object> objetos )
     {
+        if( cadenasCompartidas > 0 )
+        {
+            // No hace falta copiar unas cadenas que se van a descartar
+            listaCadenas = crearListaCadenas( getTipoListaCadenas( ) );
+            cadenasCompartidas = 0;
+        }
     	listaCadenas.clear();
         for (Object obj : objetos)
         {
@@ -205,9 +676,15 @@ public class SandboxListas
     {
     	for (int i = 0; i < listaEnteros.size(); i++)
         {
-            if (listaEnteros.get(i) < 0)
+            int valor = listaEnteros.getInt(i);
+            if (valor < 0)
             {
-                listaEnteros.set(i, -listaEnteros.get(i));
+                listaEnteros.setInt(i, -valor);
+                if( estadisticasEnteros != null )
+                {
+                    estadisticasEnteros.quitar( valor );
+                    estadisticasEnteros.agregar( -valor );
+                }
             }
         }
     }
@@ -215,42 +692,25 @@ public class SandboxListas
 
     /**
      * Modifica la lista de enteros para que todos los valores queden organizados de MAYOR a MENOR.
+     * 
+     * Los valores se organizan de menor a mayor sobre el arreglo de int de la lista, en O(N log N) o menos, y luego se invierte el orden.
      */
     public void organizarEnteros( )
     {
-        for (int i = 0; i < listaEnteros.size() - 1; i++)
-        {
-            for (int j = 0; j < listaEnteros.size() - 1 - i; j++)
-            {
-                if (listaEnteros.get(j) < listaEnteros.get(j + 1))
-                {
-                    // Intercambiar los elementos
-                    int temp = listaEnteros.get(j);
-                    listaEnteros.set(j, listaEnteros.get(j + 1));
-                    listaEnteros.set(j + 1, temp);
-                }
-            }
-        }
+        listaEnteros.sortInts( );
+        listaEnteros.reverseInts( );
     }
 
     /**
-     * Modifica la lista de enteros para que todos los valores queden organizados de MAYOR a MENOR.
+     * Modifica la lista de cadenas para que todos los valores queden organizados lexicográficamente.
+     * 
+     * List.sort copia las cadenas a un arreglo, las organiza en O(N log N) y las vuelve a escribir en un solo recorrido, así que no depende de que la lista
+     * permita acceder rápido a cada posición. Las cadenas iguales conservan su orden relativo.
      */
     public void organizarCadenas( )
     {
-        for (int i = 0; i < listaCadenas.size() - 1; i++)
-        {
-            for (int j = 0; j < listaCadenas.size() - 1 - i; j++)
-            {
-                if (listaCadenas.get(j).compareTo(listaCadenas.get(j + 1)) > 0)
-                {
-                    
-                    String temp = listaCadenas.get(j);
-                    listaCadenas.set(j, listaCadenas.get(j + 1));
-                    listaCadenas.set(j + 1, temp);
-                }
-            }
-        }
+        prepararEscrituraCadenas( 0 );
+        listaCadenas.sort( null );
     }
     /**
      * Cuenta cuántas veces aparece el valor recibido por parámetro en la lista de enteros
@@ -259,10 +719,14 @@ public class SandboxListas
      */
     public int contarApariciones( int valor )
     {
+        if( estadisticasEnteros != null )
+        {
+            return estadisticasEnteros.contar( valor );
+        }
     	int count = 0;
-        for (int num : listaEnteros)
+        for (int i = 0; i < listaEnteros.size(); i++)
         {
-            if (num == valor)
+            if (listaEnteros.getInt(i) == valor)
             {
                 count++;
             }
@@ -295,41 +759,81 @@ public class SandboxListas
      * @return La cantidad de enteos diferentes que aparecen más de una vez
      */
     public int contarEnterosRepetidos( )
-    {int count = 0;
-
-    for (int i = 0; i < listaEnteros.size(); i++)
     {
-        boolean esRepetido = false;
-        boolean yaContado = false;
+        if( estadisticasEnteros != null )
+        {
+            return estadisticasEnteros.contarRepetidos( );
+        }
+        return calcularHistogramaEnteros( ).contarRepetidos( );
+    }
 
-        for (int j = 0; j < i; j++)
+    /**
+     * Calcula cuál es el rango de los enteros (el valor mínimo y el máximo).
+     * @return Un arreglo con dos posiciones: en la primera posición, el valor mínimo de la lista de enteros; en la segunda posición, el valor máximo. Si la lista
+     *         está vacía, retorna un arreglo vacío.
+     */
+    public int[] calcularRangoEnteros( )
+    {
+        if( estadisticasEnteros != null )
         {
-            if (listaEnteros.get(i) == listaEnteros.get(j))
-            {
-                yaContado = true;
-                break;
-            }
+            return estadisticasEnteros.calcularRango( );
         }
+        if( listaEnteros.size( ) == 0 )
+        {
+            return new int[]{};
+        }
+        return KernelesEnteros.calcularRango( listaEnteros.getArregloInterno( ), 0, listaEnteros.size( ) );
+    }
 
-        if (!yaContado)
+    /**
+     * Calcula la suma de todos los valores de la lista de enteros
+     * @return La suma, como long para que no se desborde
+     */
+    public long calcularSumaEnteros( )
+    {
+        if( estadisticasEnteros != null )
         {
-            for (int j = i + 1; j < listaEnteros.size(); j++)
-            {
-                if (listaEnteros.get(i) == listaEnteros.get(j))
-                {
-                    esRepetido = true;
-                    break;
-                }
-            }
+            return estadisticasEnteros.getSuma( );
         }
+        long suma = 0;
+        int[] valores = listaEnteros.getArregloInterno( );
+        for( int i = 0; i < listaEnteros.size( ); i++ )
+        {
+            suma += valores[ i ];
+        }
+        return suma;
+    }
 
-        if (esRepetido)
+    /**
+     * Calcula un histograma de los valores de la lista de enteros en tiempo lineal y sin convertir los valores a objetos.
+     * 
+     * Si el rango de los valores es estrecho comparado con la cantidad de enteros, el histograma usa un arreglo de conteos; de lo contrario usa una tabla de hash de
+     * enteros primitivos.
+     * @return El histograma de los valores de la lista de enteros
+     */
+    public HistogramaEnteros calcularHistogramaEnteros( )
+    {
+        int cantidad = listaEnteros.size( );
+        if( cantidad == 0 )
         {
-            count++;
+            return new HistogramaEnteros( );
         }
+        int[] valores = listaEnteros.getArregloInterno( );
+        int[] rango = KernelesEnteros.calcularRango( valores, 0, cantidad );
+        return HistogramaEnteros.calcular( valores, cantidad, rango[ 0 ], rango[ 1 ] );
     }
 
-    return count;
+    /**
+     * Retorna los valores de la lista de enteros que aparecen más de una vez, junto con la cantidad de veces que aparece cada uno
+     * @return Un histograma que sólo contiene los valores repetidos
+     */
+    public HistogramaEnteros getEnterosRepetidos( )
+    {
+        if( estadisticasEnteros != null )
+        {
+            return estadisticasEnteros.getFrecuencias( ).getRepetidos( );
+        }
+        return calcularHistogramaEnteros( ).getRepetidos( );
     }
 
     /**
@@ -345,7 +849,7 @@ public class SandboxListas
         }
         for (int i = 0; i < listaEnteros.size(); i++)
         {
-            if (!listaEnteros.get(i).equals(otroArreglo[i]))
+            if (listaEnteros.getInt(i) != otroArreglo[i])
             {
                 return false;
             }
@@ -356,7 +860,7 @@ public class SandboxListas
     /**
      * Cambia los elementos de la lista de enteros por una nueva serie de valores generada de forma aleatoria.
      * 
-     * Para generar los valores se debe partir de una distribución uniforme usando Math.random().
+     * Para generar los valores se parte de una distribución uniforme, usando un generador SplittableRandom con una semilla escogida al azar.
      * 
      * Los números en la lista deben quedar entre el valor mínimo y el máximo.
      * @param cantidad La cantidad de elementos que debe haber en la lista
@@ -365,19 +869,85 @@ public class SandboxListas
      */
     public void generarEnteros( int cantidad, int minimo, int maximo )
     {
-    	listaEnteros.clear();
-
-        for (int i = 0; i < cantidad; i++)
-        {
+        generarEnteros( cantidad, minimo, maximo, new SplittableRandom( ) );
+    }
 
-            double aleatorio = Math.random();
-            
+    /**
+     * Cambia los elementos de la lista de enteros por una nueva serie de valores generada de forma aleatoria a partir de una semilla. Dos llamados con la misma semilla
+     * producen los mismos valores.
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param semilla La semilla para el generador de números aleatorios
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo, long semilla )
+    {
+        generarEnteros( cantidad, minimo, maximo, new SplittableRandom( semilla ) );
+    }
 
-            int valorAleatorio = (int)(aleatorio * (maximo - minimo + 1)) + minimo;
+    /**
+     * Cambia los elementos de la lista de enteros por una nueva serie de valores tomados de una distribución uniforme entre el valor mínimo y el máximo.
+     * 
+     * En modo paralelo, si la cantidad alcanza el umbral, los valores se generan en el pool del modo paralelo con generadores derivados de 'aleatorio'. El
+     * resultado es el mismo que si se generaran en secuencia.
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param aleatorio El generador de números aleatorios
+     */
+    public void generarEnteros( int cantidad, int minimo, int maximo, SplittableRandom aleatorio )
+    {
+        int[] valores = new int[cantidad];
+        if( poolParalelo != null && cantidad >= umbralParalelo )
+        {
+            poolParalelo.submit( ( ) -> GeneradorEnteros.llenarUniforme( valores, cantidad, minimo, maximo, aleatorio, true ) ).join( );
+        }
+        else
+        {
+            GeneradorEnteros.llenarUniforme( valores, cantidad, minimo, maximo, aleatorio, false );
+        }
+        establecerEnteros( valores );
+    }
 
+    /**
+     * Cambia los elementos de la lista de enteros por una serie de valores diferentes entre sí, escogidos al azar entre el valor mínimo y el máximo.
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo para los números generados
+     * @param maximo El valor máximo para los números generados
+     * @param aleatorio El generador de números aleatorios
+     * @throws IllegalArgumentException Si entre el mínimo y el máximo no hay suficientes valores diferentes
+     */
+    public void generarEnterosDistintos( int cantidad, int minimo, int maximo, SplittableRandom aleatorio )
+    {
+        int[] valores = new int[cantidad];
+        GeneradorEnteros.llenarDistintos( valores, cantidad, minimo, maximo, aleatorio );
+        establecerEnteros( valores );
+    }
 
-            listaEnteros.add(valorAleatorio);
-        }
-      }
+    /**
+     * Cambia los elementos de la lista de enteros por una serie de valores entre el mínimo y el máximo que siguen una distribución de Zipf, en la que los valores
+     * cercanos al mínimo son mucho más frecuentes que los cercanos al máximo.
+     * @param cantidad La cantidad de elementos que debe haber en la lista
+     * @param minimo El valor mínimo (y más frecuente) para los números generados
+     * @param maximo El valor máximo (y menos frecuente) para los números generados
+     * @param exponente El exponente de la distribución, mayor a 0
+     * @param aleatorio El generador de números aleatorios
+     */
+    public void generarEnterosZipf( int cantidad, int minimo, int maximo, double exponente, SplittableRandom aleatorio )
+    {
+        int[] valores = new int[cantidad];
+        GeneradorEnteros.llenarZipf( valores, cantidad, minimo, maximo, exponente, aleatorio );
+        establecerEnteros( valores );
+    }
 
-    }      
+    /**
+     * Reemplaza el contenido de la lista de enteros por los valores del arreglo
+     * @param valores Los nuevos valores de la lista
+     */
+    private void establecerEnteros( int[] valores )
+    {
+        listaEnteros.clear( );
+        listaEnteros.addInts( valores, 0, valores.length );
+        recalcularEstadisticasEnteros( );
+    }
+}
@@ -0,0 +1,331 @@
+package uniandes.dpoo.estructuras.logica;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Una versión de las operaciones de SandboxListas sobre la lista de enteros que se puede usar desde varios hilos al mismo tiempo sin un candado global.
+ *
+ * Los enteros se reparten en varios segmentos, cada uno con su propio arreglo y su propio StampedLock. Cada hilo agrega sus valores siempre al mismo
+ * segmento, así que hilos diferentes casi nunca compiten por el mismo candado. Las consultas intentan primero una lectura optimista, sin bloquear a nadie, y
+ * sólo toman el candado de lectura si algún hilo modificó el segmento mientras lo recorrían.
+ *
+ * La lista es la concatenación de los segmentos. Los valores que agrega un mismo hilo conservan su orden, pero el orden entre valores agregados por hilos
+ * diferentes no está definido. Las operaciones que recorren todos los segmentos (contarApariciones, eliminarEntero, getCantidadEnteros) los recorren uno por
+ * uno, así que pueden no ver los cambios que otros hilos hacen al mismo tiempo. organizarEnteros y getEnterosComoArreglo toman los candados de todos los
+ * segmentos, siempre en el mismo orden, y ven la lista completa en un solo momento.
+ */
+public class SandboxListasConcurrente
+{
+    /**
+     * Capacidad con la que se crea el arreglo de un segmento cuando se agrega el primer valor
+     */
+    private static final int CAPACIDAD_INICIAL = 16;
+
+    /**
+     * Capacidad máxima del arreglo de un segmento
+     */
+    private static final int CAPACIDAD_MAXIMA = Integer.MAX_VALUE - 8;
+
+    /**
+     * Una parte de la lista de enteros, con su propio candado
+     */
+    private static final class Segmento
+    {
+        /**
+         * El candado que protege el arreglo y la cantidad
+         */
+        private final StampedLock candado = new StampedLock( );
+
+        /**
+         * Los valores del segmento. Sólo las primeras 'cantidad' posiciones son válidas.
+         */
+        private int[] valores = new int[0];
+
+        /**
+         * La cantidad de valores del segmento
+         */
+        private int cantidad;
+    }
+
+    /**
+     * Los segmentos de la lista. Su cantidad es una potencia de 2.
+     */
+    private final Segmento[] segmentos;
+
+    /**
+     * Crea una lista vacía con un segmento por cada hilo que puede ejecutar al tiempo la máquina, redondeado a una potencia de 2
+     */
+    public SandboxListasConcurrente( )
+    {
+        this( Runtime.getRuntime( ).availableProcessors( ) );
+    }
+
+    /**
+     * Crea una lista vacía con la cantidad de segmentos indicada, redondeada hacia arriba a una potencia de 2
+     * @param cantidadSegmentos La cantidad mínima de segmentos
+     * @throws IllegalArgumentException Si la cantidad de segmentos no es positiva o es mayor que 2^30
+     */
+    public SandboxListasConcurrente( int cantidadSegmentos )
+    {
+        if( cantidadSegmentos < 1 || cantidadSegmentos > 1 << 30 )
+        {
+            throw new IllegalArgumentException( "La cantidad de segmentos debe estar entre 1 y 2^30: " + cantidadSegmentos );
+        }
+        int cantidad = Integer.highestOneBit( cantidadSegmentos );
+        if( cantidad < cantidadSegmentos )
+        {
+            cantidad <<= 1;
+        }
+        segmentos = new Segmento[cantidad];
+        for( int i = 0; i < cantidad; i++ )
+        {
+            segmentos[ i ] = new Segmento( );
+        }
+    }
+
+    /**
+     * Retorna la cantidad de segmentos en los que se reparte la lista
+     * @return La cantidad de segmentos
+     */
+    public int getCantidadSegmentos( )
+    {
+        return segmentos.length;
+    }
+
+    /**
+     * Retorna el segmento al que el hilo actual agrega sus valores
+     * @return El segmento
+     */
+    private Segmento segmentoDelHilo( )
+    {
+        // Se mezclan los bits del identificador para que hilos con identificadores consecutivos no terminen en segmentos vecinos de forma predecible
+        long id = Thread.currentThread( ).getId( ) * 0x9E3779B97F4A7C15L;
+        return segmentos[ ( int )( id >>> 32 ) & ( segmentos.length - 1 ) ];
+    }
+
+    /**
+     * Agrega un nuevo valor al final de la parte de la lista que le corresponde al hilo actual. Sólo bloquea el segmento de ese hilo.
+     * @param entero El valor que se va a agregar
+     */
+    public void agregarEntero( int entero )
+    {
+        Segmento segmento = segmentoDelHilo( );
+        long sello = segmento.candado.writeLock( );
+        try
+        {
+            if( segmento.cantidad == segmento.valores.length )
+            {
+                long nueva = Math.max( CAPACIDAD_INICIAL, segmento.cantidad + ( long )( segmento.cantidad >> 1 ) );
+                segmento.valores = Arrays.copyOf( segmento.valores, ( int )Math.min( nueva, CAPACIDAD_MAXIMA ) );
+            }
+            segmento.valores[ segmento.cantidad++ ] = entero;
+        }
+        finally
+        {
+            segmento.candado.unlockWrite( sello );
+        }
+    }
+
+    /**
+     * Retorna la cantidad de valores en la lista de enteros
+     * @return La suma de las cantidades de los segmentos
+     */
+    public int getCantidadEnteros( )
+    {
+        int total = 0;
+        for( Segmento segmento : segmentos )
+        {
+            long sello = segmento.candado.tryOptimisticRead( );
+            int cantidad = segmento.cantidad;
+            if( !segmento.candado.validate( sello ) )
+            {
+                sello = segmento.candado.readLock( );
+                try
+                {
+                    cantidad = segmento.cantidad;
+                }
+                finally
+                {
+                    segmento.candado.unlockRead( sello );
+                }
+            }
+            total += cantidad;
+        }
+        return total;
+    }
+
+    /**
+     * Cuenta cuántas veces aparece el valor recibido por parámetro en la lista de enteros.
+     *
+     * Cada segmento se recorre primero con una lectura optimista. Si otro hilo lo modificó durante el recorrido, se vuelve a recorrer con el candado de
+     * lectura.
+     * @param valor El valor buscado
+     * @return La cantidad de veces que aparece el valor
+     */
+    public int contarApariciones( int valor )
+    {
+        int total = 0;
+        for( Segmento segmento : segmentos )
+        {
+            long sello = segmento.candado.tryOptimisticRead( );
+            int apariciones = contar( segmento.valores, segmento.cantidad, valor );
+            if( !segmento.candado.validate( sello ) )
+            {
+                sello = segmento.candado.readLock( );
+                try
+                {
+                    apariciones = contar( segmento.valores, segmento.cantidad, valor );
+                }
+                finally
+                {
+                    segmento.candado.unlockRead( sello );
+                }
+            }
+            total += apariciones;
+        }
+        return total;
+    }
+
+    /**
+     * Cuenta cuántas veces aparece un valor en las primeras posiciones de un arreglo.
+     *
+     * Durante una lectura optimista la cantidad puede no corresponder al arreglo, así que el recorrido nunca pasa del final del arreglo. El resultado sólo se
+     * usa si la lectura es válida.
+     * @param valores El arreglo
+     * @param cantidad La cantidad de posiciones que se deben revisar
+     * @param valor El valor buscado
+     * @return La cantidad de veces que aparece el valor
+     */
+    private static int contar( int[] valores, int cantidad, int valor )
+    {
+        int apariciones = 0;
+        int hasta = Math.min( cantidad, valores.length );
+        for( int i = 0; i < hasta; i++ )
+        {
+            if( valores[ i ] == valor )
+            {
+                apariciones++;
+            }
+        }
+        return apariciones;
+    }
+
+    /**
+     * Elimina todas las apariciones de un determinado valor dentro de la lista de enteros. Bloquea un segmento a la vez.
+     * @param valor El valor que se va eliminar
+     */
+    public void eliminarEntero( int valor )
+    {
+        for( Segmento segmento : segmentos )
+        {
+            long sello = segmento.candado.writeLock( );
+            try
+            {
+                int[] valores = segmento.valores;
+                int escritura = 0;
+                for( int i = 0; i < segmento.cantidad; i++ )
+                {
+                    int entero = valores[ i ];
+                    if( entero != valor )
+                    {
+                        valores[ escritura++ ] = entero;
+                    }
+                }
+                segmento.cantidad = escritura;
+            }
+            finally
+            {
+                segmento.candado.unlockWrite( sello );
+            }
+        }
+    }
+
+    /**
+     * Modifica la lista de enteros para que todos los valores queden organizados de MAYOR a MENOR.
+     *
+     * Se toman los candados de escritura de todos los segmentos, se organizan todos los valores juntos y se vuelven a repartir en orden, de forma que la
+     * concatenación de los segmentos quede organizada. Cada segmento conserva la cantidad de valores que tenía.
+     */
+    public void organizarEnteros( )
+    {
+        long[] sellos = new long[segmentos.length];
+        for( int i = 0; i < segmentos.length; i++ )
+        {
+            sellos[ i ] = segmentos[ i ].candado.writeLock( );
+        }
+        try
+        {
+            IntList todos = new IntList( contarTodos( ) );
+            for( Segmento segmento : segmentos )
+            {
+                todos.addInts( segmento.valores, 0, segmento.cantidad );
+            }
+            todos.sortInts( );
+            todos.reverseInts( );
+            int[] organizados = todos.getArregloInterno( );
+            int desde = 0;
+            for( Segmento segmento : segmentos )
+            {
+                System.arraycopy( organizados, desde, segmento.valores, 0, segmento.cantidad );
+                desde += segmento.cantidad;
+            }
+        }
+        finally
+        {
+            for( int i = segmentos.length - 1; i >= 0; i-- )
+            {
+                segmentos[ i ].candado.unlockWrite( sellos[ i ] );
+            }
+        }
+    }
+
+    /**
+     * Retorna un arreglo con los valores de la lista de enteros, es decir la concatenación de los segmentos en un solo momento
+     * @return Un arreglo de enteros
+     */
+    public int[] getEnterosComoArreglo( )
+    {
+        long[] sellos = new long[segmentos.length];
+        for( int i = 0; i < segmentos.length; i++ )
+        {
+            sellos[ i ] = segmentos[ i ].candado.readLock( );
+        }
+        try
+        {
+            int[] enteros = new int[contarTodos( )];
+            int desde = 0;
+            for( Segmento segmento : segmentos )
+            {
+                System.arraycopy( segmento.valores, 0, enteros, desde, segmento.cantidad );
+                desde += segmento.cantidad;
+            }
+            return enteros;
+        }
+        finally
+        {
+            for( int i = segmentos.length - 1; i >= 0; i-- )
+            {
+                segmentos[ i ].candado.unlockRead( sellos[ i ] );
+            }
+        }
+    }
+
+    /**
+     * Suma las cantidades de todos los segmentos. Sólo se puede llamar teniendo los candados de todos los segmentos.
+     * @return La cantidad total de valores
+     */
+    private int contarTodos( )
+    {
+        long total = 0;
+        for( Segmento segmento : segmentos )
+        {
+            total += segmento.cantidad;
+        }
+        if( total > Integer.MAX_VALUE - 8 )
+        {
+            throw new OutOfMemoryError( "La cantidad de enteros excede el tamaño máximo de un arreglo" );
+        }
+        return ( int )total;
+    }
+}
@@ -0,0 +1,18 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Los lugares donde SandboxArreglos puede guardar su arreglo de enteros.
+ */
+public enum TipoAlmacenamiento
+{
+    /**
+     * Los enteros se guardan en un arreglo int[] normal, dentro del heap de Java.
+     */
+    HEAP,
+
+    /**
+     * Los enteros se guardan en memoria directa (un ByteBuffer directo), por fuera del heap de Java. Así el recolector de basura no tiene que recorrerlos ni
+     * copiarlos, y el tamaño del arreglo no está limitado por el tamaño del heap.
+     */
+    DIRECTO
+}
@@ -0,0 +1,23 @@
+package uniandes.dpoo.estructuras.logica;
+
+/**
+ * Las implementaciones de lista que SandboxListas puede usar para su lista de cadenas.
+ */
+public enum TipoLista
+{
+    /**
+     * Una LinkedList: agregar y eliminar en los extremos o durante un recorrido es O(1), pero consultar o cambiar una posición es O(N).
+     */
+    ENLAZADA,
+
+    /**
+     * Un ArrayList: consultar o cambiar una posición es O(1), pero insertar o eliminar en medio de la lista es O(N).
+     */
+    ARREGLO,
+
+    /**
+     * Una ListaPorBloques: consultar, cambiar, insertar o eliminar en cualquier posición toma O(log N) en la mayoría de los casos, y los recorridos avanzan sobre
+     * bloques contiguos de referencias.
+     */
+    BLOQUES
+}
@@ -0,0 +1,93 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.GeneradorEnteros;
+import uniandes.dpoo.estructuras.logica.HistogramaEnteros;
+
+class TestGeneradorEnteros
+{
+    @Test
+    void testUniformeReproducible( )
+    {
+        int[] secuencial = new int[100000];
+        int[] paralelo = new int[100000];
+        GeneradorEnteros.llenarUniforme( secuencial, secuencial.length, -10, 10, new SplittableRandom( 42 ), false );
+        GeneradorEnteros.llenarUniforme( paralelo, paralelo.length, -10, 10, new SplittableRandom( 42 ), true );
+
+        assertArrayEquals( secuencial, paralelo, "Con la misma semilla deberían generarse los mismos valores en secuencial y en paralelo" );
+        for( int valor : secuencial )
+        {
+            assertTrue( -10 <= valor && valor <= 10, "El valor " + valor + " está por fuera del rango" );
+        }
+    }
+
+    @Test
+    void testUniformeRangoExtremo( )
+    {
+        int[] valores = new int[1000];
+        GeneradorEnteros.llenarUniforme( valores, valores.length, Integer.MAX_VALUE - 1, Integer.MAX_VALUE, new SplittableRandom( 7 ), false );
+
+        for( int valor : valores )
+        {
+            assertTrue( valor >= Integer.MAX_VALUE - 1, "El valor " + valor + " está por fuera del rango" );
+        }
+    }
+
+    @Test
+    void testDistintosRangoEstrecho( )
+    {
+        int[] valores = new int[20];
+        GeneradorEnteros.llenarDistintos( valores, valores.length, 1, 20, new SplittableRandom( 1 ) );
+
+        HistogramaEnteros histograma = HistogramaEnteros.calcular( valores, valores.length, 1, 20 );
+        assertEquals( 20, histograma.getCantidadValores( ), "Los valores generados deberían ser todos diferentes" );
+    }
+
+    @Test
+    void testDistintosRangoAmplio( )
+    {
+        int[] valores = new int[10000];
+        GeneradorEnteros.llenarDistintos( valores, valores.length, 0, 1000000, new SplittableRandom( 1 ) );
+
+        HistogramaEnteros histograma = HistogramaEnteros.calcular( valores, valores.length, 0, 1000000 );
+        assertEquals( 10000, histograma.getCantidadValores( ), "Los valores generados deberían ser todos diferentes" );
+    }
+
+    @Test
+    void testDistintosInsuficientes( )
+    {
+        try
+        {
+            GeneradorEnteros.llenarDistintos( new int[10], 10, 1, 5, new SplittableRandom( ) );
+            fail( "Debería haberse lanzado una excepción porque no hay suficientes valores diferentes" );
+        }
+        catch( IllegalArgumentException e )
+        {
+            // Se esperaba la excepción
+        }
+    }
+
+    @Test
+    void testZipf( )
+    {
+        int[] valores = new int[100000];
+        GeneradorEnteros.llenarZipf( valores, valores.length, 1, 1000, 1.2, new SplittableRandom( 3 ) );
+
+        HistogramaEnteros histograma = HistogramaEnteros.calcular( valores, valores.length, 1, 1000 );
+        for( int valor : valores )
+        {
+            assertTrue( 1 <= valor && valor <= 1000, "El valor " + valor + " está por fuera del rango" );
+        }
+        assertTrue( histograma.getCantidad( 1 ) > histograma.getCantidad( 2 ), "El mínimo debería ser el valor más frecuente" );
+        assertTrue( histograma.getCantidad( 2 ) > histograma.getCantidad( 10 ), "Los valores pequeños deberían ser más frecuentes" );
+        assertTrue( histograma.getCantidad( 1 ) > valores.length / 10, "La distribución debería estar concentrada cerca del mínimo" );
+    }
+}
@@ -0,0 +1,184 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.HistogramaEnteros;
+
+class TestHistogramaEnteros
+{
+    private static final int[] enterosSencillos = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 };
+
+    @Test
+    void testCalcularDenso( )
+    {
+        HistogramaEnteros histograma = HistogramaEnteros.calcular( enterosSencillos, enterosSencillos.length, -5, 9 );
+
+        assertTrue( histograma.esDenso( ), "Con un rango estrecho debería usarse la representación densa" );
+        assertEquals( 14, histograma.getCantidadValores( ), "La cantidad de valores en el histograma no es la correcta" );
+        assertEquals( 3, histograma.getCantidad( 6 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 2, histograma.getCantidad( 9 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 1, histograma.getCantidad( -5 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 0, histograma.getCantidad( -1 ), "Un valor que no aparece debería tener cantidad 0" );
+        assertEquals( 0, histograma.getCantidad( 100 ), "Un valor por fuera del rango debería tener cantidad 0" );
+        assertEquals( 4, histograma.contarRepetidos( ), "No contó correctamente la cantidad de enteros que están repetidos" );
+    }
+
+    @Test
+    void testCalcularDisperso( )
+    {
+        int[] valores = new int[]{ Integer.MIN_VALUE, 0, Integer.MAX_VALUE, 0, 1000000, Integer.MIN_VALUE };
+        HistogramaEnteros histograma = HistogramaEnteros.calcular( valores, valores.length, Integer.MIN_VALUE, Integer.MAX_VALUE );
+
+        assertFalse( histograma.esDenso( ), "Con un rango amplio debería usarse la representación dispersa" );
+        assertEquals( 4, histograma.getCantidadValores( ), "La cantidad de valores en el histograma no es la correcta" );
+        assertEquals( 2, histograma.getCantidad( Integer.MIN_VALUE ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 2, histograma.getCantidad( 0 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 1, histograma.getCantidad( Integer.MAX_VALUE ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 0, histograma.getCantidad( 1 ), "Un valor que no aparece debería tener cantidad 0" );
+        assertEquals( 2, histograma.contarRepetidos( ), "No contó correctamente la cantidad de enteros que están repetidos" );
+    }
+
+    @Test
+    void testCrecimiento( )
+    {
+        HistogramaEnteros histograma = new HistogramaEnteros( );
+        for( int i = 0; i < 10000; i++ )
+        {
+            histograma.agregar( i * 7919 );
+            histograma.agregar( i * 7919 );
+        }
+
+        assertEquals( 10000, histograma.getCantidadValores( ), "La cantidad de valores en el histograma no es la correcta" );
+        for( int i = 0; i < 10000; i++ )
+        {
+            assertEquals( 2, histograma.getCantidad( i * 7919 ), "Se perdieron conteos al crecer la tabla" );
+        }
+    }
+
+    @Test
+    void testDensoFueraDeRango( )
+    {
+        HistogramaEnteros histograma = new HistogramaEnteros( 0, 10 );
+        try
+        {
+            histograma.agregar( 11 );
+            fail( "Debería haberse lanzado una excepción por el valor fuera del rango" );
+        }
+        catch( IllegalArgumentException e )
+        {
+            assertEquals( 0, histograma.getCantidadValores( ), "El histograma debería seguir vacío" );
+        }
+    }
+
+    @Test
+    void testQuitar( )
+    {
+        HistogramaEnteros histograma = new HistogramaEnteros( );
+        for( int i = 0; i < 1000; i++ )
+        {
+            histograma.agregar( i );
+        }
+        for( int i = 0; i < 1000; i += 2 )
+        {
+            assertTrue( histograma.quitar( i ), "El valor debería haberse descontado" );
+        }
+
+        assertEquals( 500, histograma.getCantidadValores( ), "La cantidad de valores en el histograma no es la correcta" );
+        for( int i = 0; i < 1000; i++ )
+        {
+            assertEquals( i % 2, histograma.getCantidad( i ), "Quitar un valor afectó el conteo de otro valor" );
+        }
+        assertFalse( histograma.quitar( 0 ), "No debería poder descontarse un valor que ya no aparece" );
+        assertFalse( histograma.quitar( 5000 ), "No debería poder descontarse un valor que nunca apareció" );
+    }
+
+    @Test
+    void testQuitarDenso( )
+    {
+        HistogramaEnteros histograma = new HistogramaEnteros( 0, 10 );
+        histograma.agregar( 3 );
+        histograma.agregar( 3 );
+
+        assertTrue( histograma.quitar( 3 ), "El valor debería haberse descontado" );
+        assertEquals( 1, histograma.getCantidad( 3 ), "La cantidad de veces que aparece el valor no es la correcta" );
+        assertTrue( histograma.quitar( 3 ), "El valor debería haberse descontado" );
+        assertFalse( histograma.quitar( 3 ), "No debería poder descontarse un valor que ya no aparece" );
+        assertFalse( histograma.quitar( 20 ), "No debería poder descontarse un valor fuera del rango" );
+        assertEquals( 0, histograma.getCantidadValores( ), "El histograma debería quedar vacío" );
+    }
+
+    @Test
+    void testCalcularHuella( )
+    {
+        int[] valores = new int[]{ 3, 1, 2, 2 };
+        int[] permutados = new int[]{ 2, 3, 2, 1 };
+        int[] diferentes = new int[]{ 3, 1, 1, 3 };
+
+        assertEquals( HistogramaEnteros.calcularHuella( valores, 4 ), HistogramaEnteros.calcularHuella( permutados, 4 ), "La huella no debería depender del orden" );
+        assertFalse( HistogramaEnteros.calcularHuella( valores, 4 ) == HistogramaEnteros.calcularHuella( diferentes, 4 ), "Las huellas deberían ser diferentes" );
+    }
+
+    @Test
+    void testAMapa( )
+    {
+        HistogramaEnteros histograma = HistogramaEnteros.calcular( enterosSencillos, enterosSencillos.length, -5, 9 );
+        HashMap<Integer, Integer> mapa = histograma.aMapa( );
+
+        assertEquals( 14, mapa.size( ), "La cantidad de valores en el mapa no es la correcta" );
+        assertEquals( 3, mapa.get( 6 ), "La cantidad de veces que aparece el valor en el mapa no es la correcta" );
+        assertEquals( 1, mapa.get( 0 ), "La cantidad de veces que aparece el valor en el mapa no es la correcta" );
+    }
+
+    @Test
+    void testGetValores( )
+    {
+        HistogramaEnteros histograma = new HistogramaEnteros( );
+        histograma.agregar( 5 );
+        histograma.agregar( -3 );
+        histograma.agregar( 5 );
+        histograma.agregar( 100 );
+
+        assertArrayEquals( new int[]{ -3, 5, 100 }, histograma.getValores( ), "Los valores del histograma no son los esperados" );
+    }
+
+    @Test
+    void testGetRepetidos( )
+    {
+        HistogramaEnteros histograma = HistogramaEnteros.calcular( enterosSencillos, enterosSencillos.length, -5, 9 );
+        HistogramaEnteros repetidos = histograma.getRepetidos( );
+
+        assertFalse( repetidos.esDenso( ), "El histograma de repetidos debería usar la representación dispersa" );
+        assertArrayEquals( new int[]{ 6, 7, 8, 9 }, repetidos.getValores( ), "Los valores repetidos no son los correctos" );
+        assertEquals( 3, repetidos.getCantidad( 6 ), "La cantidad de veces que aparece el valor repetido no es la correcta" );
+        assertEquals( 4, repetidos.contarRepetidos( ), "Todos los valores del histograma de repetidos deberían estar repetidos" );
+    }
+
+    @Test
+    void testAgregarVarias( )
+    {
+        HistogramaEnteros histograma = new HistogramaEnteros( );
+        histograma.agregar( 7, 3 );
+        histograma.agregar( 7 );
+
+        assertEquals( 4, histograma.getCantidad( 7 ), "No se agregaron todas las apariciones del valor" );
+        assertEquals( 1, histograma.getCantidadValores( ), "La cantidad de valores en el histograma no es la correcta" );
+        try
+        {
+            histograma.agregar( 7, 0 );
+            fail( "Debería fallar al agregar una cantidad de apariciones que no es positiva" );
+        }
+        catch( IllegalArgumentException e )
+        {
+            // Es lo esperado
+        }
+    }
+
+}
@@ -0,0 +1,209 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.IntList;
+
+class TestIntList
+{
+    @Test
+    void testAgregarYConsultar( )
+    {
+        IntList lista = new IntList( );
+        for( int i = 0; i < 1000; i++ )
+        {
+            lista.addInt( i * 3 );
+        }
+
+        assertEquals( 1000, lista.size( ), "El tamaño de la lista no es el correcto" );
+        assertEquals( 2997, lista.getInt( 999 ), "El valor no es el correcto" );
+        assertEquals( 6, lista.get( 2 ), "El valor no es el correcto" );
+        assertEquals( 6, lista.setInt( 2, -1 ), "Debería retornarse el valor anterior" );
+        assertEquals( -1, lista.getInt( 2 ), "El valor no se cambió" );
+    }
+
+    @Test
+    void testInsertarYEliminar( )
+    {
+        IntList lista = new IntList( 2 );
+        lista.addInts( new int[]{ 1, 2, 3, 4, 5 }, 1, 3 );
+        lista.addInt( 0, 9 );
+        lista.addInt( lista.size( ), 7 );
+
+        assertArrayEquals( new int[]{ 9, 2, 3, 4, 7 }, lista.toIntArray( ), "Los valores no son los esperados" );
+        assertEquals( 3, lista.removeIntAt( 2 ), "Debería retornarse el valor eliminado" );
+        assertTrue( lista.removeIntIf( n -> n > 5 ), "Deberían haberse eliminado valores" );
+        assertFalse( lista.removeIntIf( n -> n > 100 ), "No debería haberse eliminado ningún valor" );
+        assertArrayEquals( new int[]{ 2, 4 }, lista.toIntArray( ), "Los valores no son los esperados" );
+    }
+
+    @Test
+    void testPosicionInvalida( )
+    {
+        IntList lista = new IntList( 10 );
+        lista.addInt( 1 );
+        try
+        {
+            lista.getInt( 1 );
+            fail( "Debería haberse lanzado una excepción porque la posición no existe, aunque haya capacidad" );
+        }
+        catch( IndexOutOfBoundsException e )
+        {
+            assertEquals( 1, lista.size( ), "La lista no debería cambiar" );
+        }
+    }
+
+    @Test
+    void testCompatibleConList( )
+    {
+        IntList lista = new IntList( );
+        List<Integer> referencia = new ArrayList<Integer>( );
+        for( int i = 0; i < 20; i++ )
+        {
+            lista.add( i % 4 );
+            referencia.add( i % 4 );
+        }
+        lista.remove( 3 );
+        referencia.remove( 3 );
+        lista.remove( Integer.valueOf( 2 ) );
+        referencia.remove( Integer.valueOf( 2 ) );
+
+        assertEquals( referencia, lista, "La lista debería ser igual a un ArrayList con los mismos valores" );
+        assertEquals( referencia.hashCode( ), lista.hashCode( ), "El hashCode debería ser el mismo de un ArrayList" );
+        assertEquals( Arrays.asList( 1, 0, 1 ), lista.subList( 1, 4 ), "La sublista no es la correcta" );
+
+        Iterator<Integer> iterador = lista.iterator( );
+        iterador.next( );
+        iterador.remove( );
+        assertEquals( 17, lista.size( ), "El iterador debería poder eliminar valores" );
+    }
+
+    @Test
+    void testOrdenar( )
+    {
+        IntList lista = new IntList( );
+        lista.addInts( new int[]{ 5, -1, 3, 3, Integer.MIN_VALUE, 0 }, 0, 6 );
+        lista.sortInts( );
+        assertArrayEquals( new int[]{ Integer.MIN_VALUE, -1, 0, 3, 3, 5 }, lista.toIntArray( ), "Los valores no quedaron organizados" );
+
+        lista.reverseInts( );
+        assertArrayEquals( new int[]{ 5, 3, 3, 0, -1, Integer.MIN_VALUE }, lista.toIntArray( ), "El orden no quedó invertido" );
+
+        lista.sort( null );
+        assertEquals( Integer.MIN_VALUE, lista.getInt( 0 ), "Ordenar sin comparador debería usar el orden natural" );
+    }
+
+    @Test
+    void testSnapshot( )
+    {
+        IntList lista = new IntList( );
+        lista.addInts( new int[]{ 5, 3, 8, 1 }, 0, 4 );
+        List<Integer> vista = lista.snapshot( );
+        IntBuffer buffer = lista.snapshotBuffer( );
+
+        lista.addInt( 7 );
+        assertEquals( Arrays.asList( 5, 3, 8, 1 ), vista, "Agregar al final no debería cambiar la vista" );
+        lista.setInt( 0, -5 );
+        lista.sortInts( );
+        lista.removeIntAt( 0 );
+        assertEquals( Arrays.asList( 5, 3, 8, 1 ), vista, "Los cambios a la lista no deberían verse en la vista" );
+        assertEquals( 4, buffer.remaining( ), "El buffer no tiene la cantidad de valores esperada" );
+        assertEquals( 5, buffer.get( 0 ), "Los cambios a la lista no deberían verse en el buffer" );
+        assertEquals( 1, buffer.get( 3 ), "Los cambios a la lista no deberían verse en el buffer" );
+        assertTrue( buffer.isReadOnly( ), "El buffer debería ser de sólo lectura" );
+        assertArrayEquals( new int[]{ 1, 3, 7, 8 }, lista.toIntArray( ), "Los valores de la lista no son los esperados" );
+
+        try
+        {
+            vista.set( 0, 1 );
+            fail( "No debería poderse modificar la vista" );
+        }
+        catch( UnsupportedOperationException e )
+        {
+            // Es lo esperado
+        }
+    }
+
+    @Test
+    void testReplaceAllInts( )
+    {
+        IntList lista = new IntList( );
+        lista.addInts( new int[]{ 1, -2, 3 }, 0, 3 );
+        List<Integer> vista = lista.snapshot( );
+
+        lista.replaceAllInts( n -> n * n );
+        assertArrayEquals( new int[]{ 1, 4, 9 }, lista.toIntArray( ), "Los valores no son los esperados" );
+        assertEquals( Arrays.asList( 1, -2, 3 ), vista, "El reemplazo no debería verse en la vista" );
+    }
+
+    @Test
+    void testHuecoOperacionesAleatorias( )
+    {
+        IntList lista = new IntList( );
+        lista.activarHueco( );
+        List<Integer> esperada = new ArrayList<Integer>( );
+        List<Integer> vista = lista.snapshot( );
+        List<Integer> valoresVista = new ArrayList<Integer>( );
+        SplittableRandom aleatorio = new SplittableRandom( 11 );
+        int cursor = 0;
+        for( int i = 0; i < 20000; i++ )
+        {
+            // La mayoría de las operaciones son cerca del cursor, como en un editor
+            if( aleatorio.nextInt( 50 ) == 0 )
+            {
+                cursor = aleatorio.nextInt( esperada.size( ) + 1 );
+            }
+            cursor = Math.max( 0, Math.min( cursor + aleatorio.nextInt( -2, 3 ), esperada.size( ) ) );
+            int operacion = aleatorio.nextInt( 20 );
+            if( operacion < 11 || esperada.isEmpty( ) )
+            {
+                lista.addInt( cursor, i );
+                esperada.add( cursor, i );
+            }
+            else if( operacion < 17 )
+            {
+                int posicion = Math.min( cursor, esperada.size( ) - 1 );
+                assertEquals( esperada.remove( posicion ).intValue( ), lista.removeIntAt( posicion ), "Se eliminó un valor incorrecto" );
+            }
+            else if( operacion < 19 )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.set( posicion, -i ).intValue( ), lista.setInt( posicion, -i ), "El valor anterior no es el correcto" );
+            }
+            else if( aleatorio.nextBoolean( ) )
+            {
+                lista.addInt( i );
+                esperada.add( i );
+            }
+            else
+            {
+                assertEquals( valoresVista, vista, "La vista cambió" );
+                vista = lista.snapshot( );
+                valoresVista = new ArrayList<Integer>( esperada );
+            }
+        }
+        assertEquals( esperada, lista, "La lista no tiene los valores esperados" );
+        assertEquals( valoresVista, vista, "La vista cambió" );
+        assertArrayEquals( esperada.stream( ).mapToInt( Integer::intValue ).toArray( ), lista.toIntArray( ), "El arreglo no tiene los valores esperados" );
+
+        lista.sortInts( );
+        esperada.sort( null );
+        assertEquals( esperada, lista, "La lista no quedó organizada" );
+        lista.desactivarHueco( );
+        assertFalse( lista.estaHuecoActivo( ), "El modo de hueco debería estar inactivo" );
+    }
+
+}
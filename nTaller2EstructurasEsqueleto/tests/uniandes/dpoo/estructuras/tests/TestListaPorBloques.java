@@ -0,0 +1,157 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.ListaPorBloques;
+
+class TestListaPorBloques
+{
+    @Test
+    void testAgregarYConsultar( )
+    {
+        ListaPorBloques<String> lista = new ListaPorBloques<String>( );
+        for( int i = 0; i < 1000; i++ )
+        {
+            lista.add( "v" + i );
+        }
+
+        assertEquals( 1000, lista.size( ), "El tamaño de la lista no es el correcto" );
+        assertEquals( "v0", lista.get( 0 ), "El valor no es el correcto" );
+        assertEquals( "v999", lista.get( 999 ), "El valor no es el correcto" );
+        assertEquals( "v500", lista.set( 500, "nuevo" ), "Debería retornarse el valor anterior" );
+        assertEquals( "nuevo", lista.get( 500 ), "El valor no se cambió" );
+    }
+
+    @Test
+    void testOperacionesAleatorias( )
+    {
+        ListaPorBloques<Integer> lista = new ListaPorBloques<Integer>( );
+        List<Integer> esperada = new ArrayList<Integer>( );
+        SplittableRandom aleatorio = new SplittableRandom( 7 );
+        for( int i = 0; i < 20000; i++ )
+        {
+            int operacion = aleatorio.nextInt( 10 );
+            if( operacion < 6 || esperada.isEmpty( ) )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) + 1 );
+                lista.add( posicion, i );
+                esperada.add( posicion, i );
+            }
+            else if( operacion < 9 )
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.remove( posicion ), lista.remove( posicion ), "Se eliminó un valor incorrecto" );
+            }
+            else
+            {
+                int posicion = aleatorio.nextInt( esperada.size( ) );
+                assertEquals( esperada.get( posicion ), lista.get( posicion ), "El valor no es el correcto" );
+            }
+        }
+        assertEquals( esperada, lista, "La lista no tiene los valores esperados" );
+
+        // Se eliminan casi todos los valores para que los bloques tengan que unirse
+        while( esperada.size( ) > 3 )
+        {
+            int posicion = aleatorio.nextInt( esperada.size( ) );
+            assertEquals( esperada.remove( posicion ), lista.remove( posicion ), "Se eliminó un valor incorrecto" );
+        }
+        assertEquals( esperada, lista, "La lista no tiene los valores esperados" );
+    }
+
+    @Test
+    void testPosicionInvalida( )
+    {
+        ListaPorBloques<String> lista = new ListaPorBloques<String>( );
+        lista.add( "a" );
+        try
+        {
+            lista.get( 1 );
+            fail( "Debería fallar al consultar una posición que no existe" );
+        }
+        catch( IndexOutOfBoundsException e )
+        {
+            // Es lo esperado
+        }
+        try
+        {
+            lista.add( 2, "b" );
+            fail( "Debería fallar al insertar en una posición que no existe" );
+        }
+        catch( IndexOutOfBoundsException e )
+        {
+            // Es lo esperado
+        }
+    }
+
+    @Test
+    void testRecorrerYEliminar( )
+    {
+        ListaPorBloques<Integer> lista = new ListaPorBloques<Integer>( );
+        List<Integer> esperada = new ArrayList<Integer>( );
+        for( int i = 0; i < 500; i++ )
+        {
+            lista.add( i );
+            if( i % 3 != 0 )
+            {
+                esperada.add( i );
+            }
+        }
+
+        Iterator<Integer> iterador = lista.iterator( );
+        while( iterador.hasNext( ) )
+        {
+            if( iterador.next( ) % 3 == 0 )
+            {
+                iterador.remove( );
+            }
+        }
+        assertEquals( esperada, lista, "No se eliminaron los valores correctos con el iterador" );
+
+        assertTrue( lista.removeIf( v -> v % 2 == 0 ), "Debería indicar que se eliminaron valores" );
+        esperada.removeIf( v -> v % 2 == 0 );
+        assertEquals( esperada, lista, "No se eliminaron los valores correctos" );
+        assertFalse( lista.removeIf( v -> v < 0 ), "No debería indicar que se eliminaron valores" );
+
+        lista.add( 10, -1 );
+        esperada.add( 10, -1 );
+        assertEquals( esperada, lista, "La lista no tiene los valores esperados después de compactarla" );
+
+        lista.removeIf( v -> true );
+        assertTrue( lista.isEmpty( ), "La lista debería quedar vacía" );
+        lista.add( 0, 5 );
+        assertEquals( 5, lista.get( 0 ), "El valor no es el correcto" );
+    }
+
+    @Test
+    void testOrdenar( )
+    {
+        ListaPorBloques<String> lista = new ListaPorBloques<String>( );
+        List<String> esperada = new ArrayList<String>( );
+        SplittableRandom aleatorio = new SplittableRandom( 11 );
+        for( int i = 0; i < 1000; i++ )
+        {
+            String valor = "c" + aleatorio.nextInt( 300 );
+            lista.add( aleatorio.nextInt( lista.size( ) + 1 ), valor );
+            esperada.add( valor );
+        }
+
+        lista.sort( null );
+        esperada.sort( null );
+        assertEquals( esperada, lista, "La lista no quedó ordenada" );
+
+        lista.add( 500, "z" );
+        esperada.add( 500, "z" );
+        assertEquals( esperada, lista, "La lista no tiene los valores esperados después de ordenarla" );
+    }
+}
@@ -1,20 +1,36 @@
 package uniandes.dpoo.estructuras.tests;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uniandes.dpoo.estructuras.logica.EstrategiaOrdenamiento;
+import uniandes.dpoo.estructuras.logica.HistogramaEnteros;
 import uniandes.dpoo.estructuras.logica.SandboxArreglos;
+import uniandes.dpoo.estructuras.logica.TipoAlmacenamiento;
 
 class TestSandboxArreglos
 {
@@ -169,6 +185,123 @@ class TestSandboxArreglos
         assertEquals( "mmmm", copia[ 0 ], "La nueva cadena no quedó almacenado al final del arreglo" );
     }
 
+    @Test
+    void testAgregarMuchosEnteros( )
+    {
+        for( int i = 0; i < 1000; i++ )
+        {
+            vacio.agregarEntero( i );
+        }
+
+        assertEquals( 1000, vacio.getCantidadEnteros( ), "La cantidad de enteros no aumentó correctamente" );
+        assertTrue( vacio.getCapacidadEnteros( ) >= 1000, "La capacidad del arreglo no creció correctamente" );
+
+        int[] copia = vacio.getCopiaEnteros( );
+        assertEquals( 1000, copia.length, "El arreglo retornado no debería incluir la capacidad sobrante" );
+        for( int i = 0; i < 1000; i++ )
+        {
+            assertEquals( i, copia[ i ], "Los enteros no quedaron almacenados en orden" );
+        }
+    }
+
+    @Test
+    void testAsegurarCapacidad( )
+    {
+        int[] original = sencillo.getCopiaEnteros( );
+        sencillo.asegurarCapacidadEnteros( 500 );
+        sencillo.asegurarCapacidadCadenas( 500 );
+
+        assertTrue( sencillo.getCapacidadEnteros( ) >= 500, "La capacidad del arreglo de enteros no es la esperada" );
+        assertTrue( sencillo.getCapacidadCadenas( ) >= 500, "La capacidad del arreglo de cadenas no es la esperada" );
+        assertEquals( enterosSencillos.length, sencillo.getCantidadEnteros( ), "Cambiar la capacidad no debería cambiar la cantidad de enteros" );
+        assertEquals( cadenasSencillas.length, sencillo.getCantidadCadenas( ), "Cambiar la capacidad no debería cambiar la cantidad de cadenas" );
+        assertTrue( sencillo.compararArregloEnteros( original ), "Cambiar la capacidad no debería cambiar los enteros" );
+    }
+
+    @Test
+    void testRecortarCapacidad( )
+    {
+        int[] original = sencillo.getCopiaEnteros( );
+        sencillo.asegurarCapacidadEnteros( 500 );
+        sencillo.recortarCapacidad( );
+
+        assertEquals( enterosSencillos.length, sencillo.getCapacidadEnteros( ), "La capacidad del arreglo de enteros no se recortó" );
+        assertEquals( cadenasSencillas.length, sencillo.getCapacidadCadenas( ), "La capacidad del arreglo de cadenas no se recortó" );
+        assertTrue( sencillo.compararArregloEnteros( original ), "Recortar la capacidad no debería cambiar los enteros" );
+
+        sencillo.agregarEntero( 99 );
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( 99, copia[ copia.length - 1 ], "El nuevo entero no quedó almacenado al final del arreglo" );
+    }
+
+    @Test
+    void testAgregarEnteros( )
+    {
+        int[] bloque = new int[]{ 1, 2, 3, 4, 5 };
+        sencillo.agregarEnteros( bloque, 1, 3 );
+
+        assertEquals( enterosSencillos.length + 3, sencillo.getCantidadEnteros( ), "La cantidad de enteros no aumentó correctamente" );
+
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( 2, copia[ copia.length - 3 ], "Los enteros no quedaron almacenados al final del arreglo" );
+        assertEquals( 3, copia[ copia.length - 2 ], "Los enteros no quedaron almacenados al final del arreglo" );
+        assertEquals( 4, copia[ copia.length - 1 ], "Los enteros no quedaron almacenados al final del arreglo" );
+    }
+
+    @Test
+    void testAgregarEnterosRangoInvalido( )
+    {
+        int[] bloque = new int[]{ 1, 2, 3 };
+        try
+        {
+            vacio.agregarEnteros( bloque, 2, 5 );
+            fail( "Debería haberse lanzado una excepción por el rango inválido" );
+        }
+        catch( IndexOutOfBoundsException e )
+        {
+            assertEquals( 0, vacio.getCantidadEnteros( ), "La cantidad de enteros no debería haber cambiado" );
+        }
+    }
+
+    @Test
+    void testAgregarCadenas( )
+    {
+        vacio.agregarCadenas( new String[]{ "x", "y", "z" }, 0, 3 );
+
+        assertArrayEquals( new String[]{ "x", "y", "z" }, vacio.getCopiaCadenas( ), "Las cadenas no quedaron almacenadas correctamente" );
+    }
+
+    @Test
+    void testInsertarEnteros( )
+    {
+        sencillo.insertarEnteros( 2, new int[]{ 97, 98, 99 } );
+
+        assertEquals( enterosSencillos.length + 3, sencillo.getCantidadEnteros( ), "La cantidad de enteros no aumentó correctamente" );
+
+        int[] copia = sencillo.getCopiaEnteros( );
+        assertEquals( enterosSencillos[ 1 ], copia[ 1 ], "No se ajustaron correctamente los enteros existentes" );
+        assertEquals( 97, copia[ 2 ], "No se insertaron los enteros en la posición correcta" );
+        assertEquals( 98, copia[ 3 ], "No se insertaron los enteros en la posición correcta" );
+        assertEquals( 99, copia[ 4 ], "No se insertaron los enteros en la posición correcta" );
+        for( int i = 2; i < enterosSencillos.length; i++ )
+        {
+            assertEquals( enterosSencillos[ i ], copia[ i + 3 ], "No se ajustaron correctamente los enteros existentes" );
+        }
+    }
+
+    @Test
+    void testInsertarCadenasAfuera( )
+    {
+        sencillo.insertarCadenas( 100, new String[]{ "y", "z" } );
+        sencillo.insertarCadenas( -5, new String[]{ "x" } );
+
+        String[] copia = sencillo.getCopiaCadenas( );
+        assertEquals( cadenasSencillas.length + 3, copia.length, "La cantidad de cadenas no aumentó correctamente" );
+        assertEquals( "x", copia[ 0 ], "No se insertó la cadena en la primera posición" );
+        assertEquals( "y", copia[ copia.length - 2 ], "No se insertaron las cadenas al final" );
+        assertEquals( "z", copia[ copia.length - 1 ], "No se insertaron las cadenas al final" );
+    }
+
     @Test
     void testEliminarEnteroUnico( )
     {
@@ -231,6 +364,28 @@ class TestSandboxArreglos
         assertEquals( 0, vacio.getCantidadCadenas( ), "La cantidad de cadenas debería seguir siendo la misma" );
     }
 
+    @Test
+    void testEliminarEnterosCondicion( )
+    {
+        int[] valores = new int[]{ 5, -1, 3, -7, 0, -2, 8 };
+        vacio.agregarEnteros( valores, 0, valores.length );
+
+        int eliminados = vacio.eliminarEnteros( n -> n < 0 );
+
+        assertEquals( 3, eliminados, "La cantidad de enteros eliminados no es correcta" );
+        assertEquals( 4, vacio.getCantidadEnteros( ), "La cantidad de enteros no disminuyó correctamente" );
+        assertArrayEquals( new int[]{ 5, 3, 0, 8 }, vacio.getCopiaEnteros( ), "Los enteros restantes no conservaron su orden" );
+    }
+
+    @Test
+    void testEliminarCadenasCondicion( )
+    {
+        int eliminadas = sencillo.eliminarCadenas( s -> s.compareTo( "c" ) < 0 );
+
+        assertEquals( 4, eliminadas, "La cantidad de cadenas eliminadas no es correcta" );
+        assertArrayEquals( new String[]{ "c", "d", "e", "d", "c" }, sencillo.getCopiaCadenas( ), "Las cadenas restantes no conservaron su orden" );
+    }
+
     @Test
     void testEliminarEnteroPorPosicionCorrectos( )
     {
@@ -531,6 +686,55 @@ class TestSandboxArreglos
         assertEquals( 0, copia.length, "La cantidad de cadenas es correcta" );
     }
 
+    @Test
+    void testModoParalelo( )
+    {
+        ForkJoinPool pool = new ForkJoinPool( 4 );
+        try
+        {
+            vacio.generarEnteros( 100000, -1000, 1000 );
+            int[] original = vacio.getCopiaEnteros( );
+            vacio.activarModoParalelo( 1000, pool );
+            assertTrue( vacio.estaEnModoParalelo( ), "El modo paralelo debería estar activo" );
+
+            int ceros = 0;
+            int minimo = Integer.MAX_VALUE;
+            int maximo = Integer.MIN_VALUE;
+            for( int valor : original )
+            {
+                ceros += valor == 0 ? 1 : 0;
+                minimo = Math.min( minimo, valor );
+                maximo = Math.max( maximo, valor );
+            }
+            assertEquals( ceros, vacio.contarApariciones( 0 ), "No contó correctamente el entero en paralelo" );
+
+            int[] rango = vacio.calcularRangoEnteros( );
+            assertEquals( minimo, rango[ 0 ], "El menor valor del rango no es el correcto" );
+            assertEquals( maximo, rango[ 1 ], "El mayor valor del rango no es el correcto" );
+
+            vacio.volverPositivos( );
+            int[] positivos = vacio.getCopiaEnteros( );
+            for( int i = 0; i < original.length; i++ )
+            {
+                assertEquals( Math.abs( original[ i ] ), positivos[ i ], "No se ajustaron correctamente los enteros existentes" );
+            }
+
+            vacio.organizarEnteros( );
+            int[] ordenados = vacio.getCopiaEnteros( );
+            for( int i = 1; i < ordenados.length; i++ )
+            {
+                assertTrue( ordenados[ i - 1 ] <= ordenados[ i ], "No se organizaron correctamente los enteros" );
+            }
+
+            vacio.desactivarModoParalelo( );
+            assertFalse( vacio.estaEnModoParalelo( ), "El modo paralelo debería estar inactivo" );
+        }
+        finally
+        {
+            pool.shutdown( );
+        }
+    }
+
     @Test
     void testEncontrarEntero( )
     {
@@ -556,6 +760,60 @@ class TestSandboxArreglos
         assertEquals( 0, posiciones99.length, "No reconocio un valor que no está en el arreglo" );
     }
 
+    @Test
+    void testEncontrarEnteroOrdenado( )
+    {
+        sencillo.organizarEnteros( );
+        assertTrue( sencillo.estanEnterosOrdenados( ), "El arreglo debería reconocerse como ordenado" );
+
+        int[] copia = sencillo.getCopiaEnteros( );
+        int[] posiciones6 = sencillo.buscarEntero( 6 );
+        assertEquals( 3, posiciones6.length, "No encontró la posición correctamente: " + Arrays.toString( posiciones6 ) );
+        for( int posicion : posiciones6 )
+        {
+            assertEquals( 6, copia[ posicion ], "No encontró la posición correctamente: " + Arrays.toString( posiciones6 ) );
+        }
+        assertEquals( 3, sencillo.contarApariciones( 6 ), "No contó correctamente el entero" );
+        assertEquals( 1, sencillo.contarApariciones( copia[ 0 ] ), "No contó correctamente el entero" );
+        assertEquals( 0, sencillo.contarApariciones( 99 ), "No contó correctamente el entero" );
+        assertEquals( 0, sencillo.buscarEntero( -1 ).length, "No reconocio un valor que no está en el arreglo" );
+    }
+
+    @Test
+    void testEstadoOrdenadoSeInvalida( )
+    {
+        sencillo.organizarEnteros( );
+        sencillo.agregarEntero( -100 );
+        assertFalse( sencillo.estanEnterosOrdenados( ), "Agregar un valor menor al último debería invalidar el orden" );
+        assertEquals( 1, sencillo.contarApariciones( -100 ), "No contó correctamente el entero" );
+
+        sencillo.organizarEnteros( );
+        sencillo.insertarEntero( 6, 0 );
+        assertFalse( sencillo.estanEnterosOrdenados( ), "Insertar un valor fuera de orden debería invalidar el orden" );
+        assertEquals( 4, sencillo.contarApariciones( 6 ), "No contó correctamente el entero" );
+
+        sencillo.organizarEnteros( );
+        sencillo.eliminarEntero( 6 );
+        assertTrue( sencillo.estanEnterosOrdenados( ), "Eliminar valores no debería cambiar el orden" );
+        assertEquals( 0, sencillo.contarApariciones( 6 ), "No contó correctamente el entero" );
+
+        sencillo.volverPositivos( );
+        assertFalse( sencillo.estanEnterosOrdenados( ), "Cambiar el signo de los valores debería invalidar el orden" );
+    }
+
+    @Test
+    void testContarCadenaOrdenada( )
+    {
+        sencillo.agregarCadena( "A" );
+        sencillo.organizarCadenas( );
+        assertTrue( sencillo.estanCadenasOrdenadas( ), "El arreglo debería reconocerse como ordenado" );
+
+        assertEquals( 3, sencillo.contarApariciones( "a" ), "No contó correctamente las cadenas con diferencias entre mayúsculas y minúsculas" );
+        assertEquals( 2, sencillo.contarApariciones( "D" ), "No contó correctamente las cadenas con diferencias entre mayúsculas y minúsculas" );
+        assertEquals( 1, sencillo.contarApariciones( "e" ), "No contó correctamente las cadenas" );
+        assertEquals( 0, sencillo.contarApariciones( "z" ), "No contó correctamente las cadenas que no están en el arreglo" );
+    }
+
     @Test
     void testEncontrarEnteroVacio( )
     {
@@ -610,6 +868,22 @@ class TestSandboxArreglos
         assertEquals( 0, histograma.size( ), "La cantidad de valores en el histograma no es la correcta" );
     }
 
+    @Test
+    void testCalcularHistogramaEnteros( )
+    {
+        // Se usa un sandbox propio porque otras pruebas modifican el arreglo con el que se construye 'sencillo'
+        SandboxArreglos sandbox = new SandboxArreglos( );
+        for( int valor : new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 } )
+        {
+            sandbox.agregarEntero( valor );
+        }
+        HistogramaEnteros histograma = sandbox.calcularHistogramaEnteros( );
+
+        assertEquals( 14, histograma.getCantidadValores( ), "La cantidad de valores en el histograma no es la correcta" );
+        assertEquals( 3, histograma.getCantidad( 6 ), "La cantidad de veces que aparece el valor en el histograma no es la correcta" );
+        assertEquals( 0, vacio.calcularHistogramaEnteros( ).getCantidadValores( ), "El histograma del sandbox vacío debería estar vacío" );
+    }
+
     @Test
     void testContarEnterosRepetidos( )
     {
@@ -663,6 +937,19 @@ class TestSandboxArreglos
         assertTrue( sencillo.mismosEnteros( ordenados ), "No comparó correctamente los arreglos en orden diferente" );
     }
 
+    @Test
+    void testMismosEnterosDiferentes( )
+    {
+        int[] valores = new int[]{ 1, 2, 2, 3, 1000000 };
+        vacio.agregarEnteros( valores, 0, valores.length );
+
+        assertTrue( vacio.mismosEnteros( new int[]{ 1000000, 2, 3, 2, 1 } ), "No comparó correctamente los arreglos en orden diferente" );
+        assertFalse( vacio.mismosEnteros( new int[]{ 1000000, 2, 3, 3, 1 } ), "No comparó correctamente los arreglos con multiplicidades diferentes" );
+        assertFalse( vacio.mismosEnteros( new int[]{ 1000000, 2, 3, 1, 2, 4 } ), "No comparó correctamente los arreglos de tamaños diferentes" );
+        // Misma suma y mismo tamaño, pero valores diferentes
+        assertFalse( vacio.mismosEnteros( new int[]{ 1000000, 1, 3, 3, 1 } ), "No comparó correctamente los arreglos con valores diferentes" );
+    }
+
     @Test
     void testMismosEnterosVacio( )
     {
@@ -682,6 +969,15 @@ class TestSandboxArreglos
         assertTrue( 10 >= rango[ 1 ], "El mayor valor del rango no es el correcto: " + Arrays.toString( rango ) );
     }
 
+    @Test
+    void testGenerarEnterosSemilla( )
+    {
+        sencillo.generarEnteros( 1000, -10, 10, 1234L );
+        vacio.generarEnteros( 1000, -10, 10, 1234L );
+
+        assertArrayEquals( sencillo.getCopiaEnteros( ), vacio.getCopiaEnteros( ), "Con la misma semilla deberían generarse los mismos valores" );
+    }
+
     @Test
     void testGenerarEnterosGrande( )
     {
@@ -719,4 +1015,450 @@ class TestSandboxArreglos
             fail( "Los valores no están bien distribuidos" );
     }
 
+    @Test
+    void testAlmacenamientoDirecto( )
+    {
+        SandboxArreglos directo = new SandboxArreglos( TipoAlmacenamiento.DIRECTO );
+        assertEquals( TipoAlmacenamiento.DIRECTO, directo.getTipoAlmacenamiento( ), "El tipo de almacenamiento no es el esperado" );
+        assertEquals( TipoAlmacenamiento.HEAP, vacio.getTipoAlmacenamiento( ), "Por defecto los enteros deberían guardarse en el heap" );
+
+        int[] valores = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 };
+        for( int valor : valores )
+        {
+            directo.agregarEntero( valor );
+            vacio.agregarEntero( valor );
+        }
+        directo.insertarEntero( 100, 3 );
+        vacio.insertarEntero( 100, 3 );
+        directo.insertarEnteros( 0, new int[]{ -7, -7 } );
+        vacio.insertarEnteros( 0, new int[]{ -7, -7 } );
+        directo.eliminarEnteroPorPosicion( 5 );
+        vacio.eliminarEnteroPorPosicion( 5 );
+        directo.eliminarEntero( 8 );
+        vacio.eliminarEntero( 8 );
+
+        assertArrayEquals( vacio.getCopiaEnteros( ), directo.getCopiaEnteros( ), "Los dos tipos de almacenamiento deberían tener los mismos enteros" );
+        assertEquals( vacio.contarApariciones( 6 ), directo.contarApariciones( 6 ), "La cantidad de apariciones no es la correcta" );
+        assertArrayEquals( vacio.buscarEntero( 6 ), directo.buscarEntero( 6 ), "Las posiciones encontradas no son las correctas" );
+        assertArrayEquals( vacio.calcularRangoEnteros( ), directo.calcularRangoEnteros( ), "El rango no es el correcto" );
+        assertEquals( vacio.calcularHistograma( ), directo.calcularHistograma( ), "El histograma no es el correcto" );
+        assertTrue( directo.compararArregloEnteros( vacio.getCopiaEnteros( ) ), "Los arreglos deberían ser iguales" );
+
+        int[] conNegativos = vacio.getCopiaEnteros( );
+        Arrays.sort( conNegativos );
+        directo.volverPositivos( );
+        vacio.volverPositivos( );
+        assertTrue( directo.mismosEnteros( vacio.getCopiaEnteros( ) ), "Los arreglos deberían tener los mismos enteros" );
+        assertFalse( directo.mismosEnteros( conNegativos ), "Los arreglos no deberían tener los mismos enteros" );
+    }
+
+    @Test
+    void testAlmacenamientoDirectoOrdenar( )
+    {
+        SandboxArreglos directo = new SandboxArreglos( TipoAlmacenamiento.DIRECTO );
+        directo.generarEnteros( 50000, -100, 100, 99L );
+        vacio.generarEnteros( 50000, -100, 100, 99L );
+        assertArrayEquals( vacio.getCopiaEnteros( ), directo.getCopiaEnteros( ), "Con la misma semilla deberían generarse los mismos valores" );
+
+        int[] esperados = vacio.getCopiaEnteros( );
+        Arrays.sort( esperados );
+        directo.organizarEnteros( );
+
+        assertArrayEquals( esperados, directo.getCopiaEnteros( ), "Los enteros no quedaron ordenados" );
+        assertTrue( directo.estanEnterosOrdenados( ), "Los enteros deberían quedar marcados como ordenados" );
+        assertEquals( vacio.contarApariciones( 0 ), directo.contarApariciones( 0 ), "La cantidad de apariciones no es la correcta" );
+
+        directo.recortarCapacidad( );
+        assertEquals( 50000, directo.getCapacidadEnteros( ), "La capacidad debería ser igual a la cantidad de enteros" );
+    }
+
+    @Test
+    void testGuardarYCargar( ) throws IOException
+    {
+        Path archivo = Files.createTempFile( "enteros", ".bin" );
+        try
+        {
+            vacio.generarEnteros( 50000, -1000, 1000, 5L );
+            vacio.organizarEnteros( );
+            vacio.guardar( archivo );
+
+            SandboxArreglos cargado = new SandboxArreglos( );
+            cargado.cargar( archivo );
+
+            assertEquals( TipoAlmacenamiento.DIRECTO, cargado.getTipoAlmacenamiento( ), "Después de cargar los enteros deberían estar en memoria directa" );
+            assertEquals( 50000, cargado.getCantidadEnteros( ), "La cantidad de enteros cargados no es la correcta" );
+            assertTrue( cargado.estanEnterosOrdenados( ), "Debería haberse cargado el estado ordenado" );
+            assertArrayEquals( vacio.getCopiaEnteros( ), cargado.getCopiaEnteros( ), "Los enteros cargados no son los que se guardaron" );
+
+            cargado.agregarEntero( -5000 );
+            cargado.eliminarEnteroPorPosicion( 0 );
+            assertFalse( cargado.estanEnterosOrdenados( ), "El estado ordenado debería invalidarse" );
+
+            SandboxArreglos otraVez = new SandboxArreglos( );
+            otraVez.cargar( archivo );
+            assertArrayEquals( vacio.getCopiaEnteros( ), otraVez.getCopiaEnteros( ), "Modificar los enteros cargados no debería cambiar el archivo" );
+        }
+        finally
+        {
+            Files.delete( archivo );
+        }
+    }
+
+    @Test
+    void testCargarArchivoInvalido( ) throws IOException
+    {
+        Path archivo = Files.createTempFile( "enteros", ".bin" );
+        try
+        {
+            Files.write( archivo, new byte[]{ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17 } );
+            sencillo.cargar( archivo );
+            fail( "Debería haberse lanzado una excepción porque el archivo no tiene el formato esperado" );
+        }
+        catch( IOException e )
+        {
+            assertEquals( enterosSencillos.length, sencillo.getCantidadEnteros( ), "Los enteros no deberían haber cambiado" );
+        }
+        finally
+        {
+            Files.delete( archivo );
+        }
+    }
+
+    @Test
+    void testIndiceCadenas( )
+    {
+        vacio.activarIndiceCadenas( );
+        vacio.reiniciarArregloCadenas( new Object[]{ "Hola", "mundo", "HOLA", "adiós", "hola", "Straße" } );
+        assertTrue( vacio.estaIndiceCadenasActivo( ), "El índice debería estar activo" );
+        assertEquals( 0, vacio.getMemoriaIndiceCadenas( ), "El índice no debería construirse antes de usarse" );
+
+        assertEquals( 3, vacio.contarApariciones( "hOlA" ), "La cantidad de apariciones no es la correcta" );
+        assertTrue( vacio.getMemoriaIndiceCadenas( ) > 0, "El índice debería estar construido" );
+        assertArrayEquals( new int[]{ 0, 2, 4 }, vacio.buscarCadena( "hola" ), "Las posiciones encontradas no son las correctas" );
+        assertEquals( 1, vacio.contarApariciones( "STRAßE" ), "La cantidad de apariciones no es la correcta" );
+        assertEquals( 0, vacio.contarApariciones( "nada" ), "Una cadena que no está no debería aparecer" );
+
+        vacio.agregarCadena( "HoLa" );
+        assertEquals( 4, vacio.contarApariciones( "hola" ), "El índice debería actualizarse al agregar una cadena" );
+
+        vacio.eliminarCadena( "hola" );
+        assertEquals( 0, vacio.getMemoriaIndiceCadenas( ), "El índice debería descartarse al eliminar cadenas" );
+        assertArrayEquals( new String[]{ "mundo", "adiós", "Straße" }, vacio.getCopiaCadenas( ), "No se eliminaron las cadenas correctas" );
+        assertEquals( 1, vacio.contarApariciones( "MUNDO" ), "La cantidad de apariciones no es la correcta" );
+
+        vacio.desactivarIndiceCadenas( );
+        assertEquals( 0, vacio.getMemoriaIndiceCadenas( ), "El índice debería liberarse al desactivarlo" );
+        assertEquals( 1, vacio.contarApariciones( "ADIÓS" ), "La cantidad de apariciones no es la correcta" );
+    }
+
+    @Test
+    void testBuscarCadena( )
+    {
+        String[] cadenas = sencillo.getCopiaCadenas( );
+        assertArrayEquals( new int[]{ 1, cadenas.length - 2 }, sencillo.buscarCadena( "B" ), "Las posiciones encontradas no son las correctas" );
+        assertEquals( 0, sencillo.buscarCadena( "z" ).length, "Una cadena que no está no debería encontrarse" );
+
+        sencillo.organizarCadenas( );
+        assertArrayEquals( new int[]{ 2, 3 }, sencillo.buscarCadena( "b" ), "Las posiciones encontradas no son las correctas" );
+    }
+
+    @Test
+    void testDiccionarioCadenas( )
+    {
+        String[] esperadas = sencillo.getCopiaCadenas( );
+        sencillo.activarDiccionarioCadenas( );
+
+        assertTrue( sencillo.estaDiccionarioCadenasActivo( ), "El modo diccionario debería estar activo" );
+        assertEquals( 5, sencillo.getTamanioDiccionarioCadenas( ), "El diccionario debería tener una entrada por cada cadena diferente" );
+        assertArrayEquals( esperadas, sencillo.getCopiaCadenas( ), "Las cadenas no deberían cambiar al activar el modo diccionario" );
+        assertEquals( 2, sencillo.contarApariciones( "C" ), "La cantidad de apariciones no es la correcta" );
+
+        sencillo.agregarCadena( "B" );
+        sencillo.insertarCadenas( 0, new String[]{ "z", "A" } );
+        assertEquals( 3, sencillo.contarApariciones( "b" ), "La cantidad de apariciones no es la correcta" );
+
+        sencillo.eliminarCadena( "d" );
+        assertEquals( 0, sencillo.contarApariciones( "D" ), "No se eliminaron todas las apariciones" );
+        assertEquals( 10, sencillo.getCantidadCadenas( ), "La cantidad de cadenas no es la correcta" );
+
+        sencillo.organizarCadenas( );
+        assertArrayEquals( new String[]{ "A", "a", "a", "b", "b", "B", "c", "c", "e", "z" }, sencillo.getCopiaCadenas( ),
+                "Las cadenas no quedaron organizadas o no se conservó el orden de las cadenas iguales" );
+        assertArrayEquals( new int[]{ 3, 4, 5 }, sencillo.buscarCadena( "B" ), "Las posiciones encontradas no son las correctas" );
+
+        assertEquals( 3, sencillo.eliminarCadenas( s -> s.equalsIgnoreCase( "a" ) ), "La cantidad de cadenas eliminadas no es la correcta" );
+
+        sencillo.desactivarDiccionarioCadenas( );
+        assertFalse( sencillo.estaDiccionarioCadenasActivo( ), "El modo diccionario debería estar inactivo" );
+        assertArrayEquals( new String[]{ "b", "b", "B", "c", "c", "e", "z" }, sencillo.getCopiaCadenas( ), "Las cadenas no deberían cambiar al desactivar el modo diccionario" );
+    }
+
+    @Test
+    void testDiccionarioCadenasReiniciar( )
+    {
+        vacio.activarDiccionarioCadenas( );
+        Object[] objetos = new Object[10000];
+        for( int i = 0; i < objetos.length; i++ )
+        {
+            objetos[ i ] = i % 7;
+        }
+        vacio.reiniciarArregloCadenas( objetos );
+
+        assertEquals( 7, vacio.getTamanioDiccionarioCadenas( ), "El diccionario debería tener una entrada por cada cadena diferente" );
+        assertEquals( 10000, vacio.getCantidadCadenas( ), "La cantidad de cadenas no es la correcta" );
+        assertEquals( 1429, vacio.contarApariciones( "3" ), "La cantidad de apariciones no es la correcta" );
+        assertEquals( "6", vacio.getCopiaCadenas( )[ 6 ], "La cadena no es la correcta" );
+    }
+
+    @Test
+    void testRecorridosValoresExtremos( )
+    {
+        int[] valores = new int[]{ Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -1, Integer.MIN_VALUE, 1, 0 };
+        vacio.agregarEnteros( valores, 0, valores.length );
+
+        assertEquals( 2, vacio.contarApariciones( Integer.MIN_VALUE ), "La cantidad de apariciones no es la correcta" );
+        assertEquals( 2, vacio.contarApariciones( 0 ), "La cantidad de apariciones no es la correcta" );
+        assertEquals( 0, vacio.contarApariciones( 5 ), "Un valor que no está no debería aparecer" );
+        assertArrayEquals( new int[]{ 0, 4 }, vacio.buscarEntero( Integer.MIN_VALUE ), "Las posiciones encontradas no son las correctas" );
+        assertArrayEquals( new int[]{ Integer.MIN_VALUE, Integer.MAX_VALUE }, vacio.calcularRangoEnteros( ), "El rango no es el correcto" );
+
+        vacio.volverPositivos( );
+        assertArrayEquals( new int[]{ Integer.MIN_VALUE, 0, Integer.MAX_VALUE, 1, Integer.MIN_VALUE, 1, 0 }, vacio.getCopiaEnteros( ),
+                "Los valores no quedaron positivos (el mínimo entero no tiene opuesto)" );
+
+        SandboxArreglos positivos = new SandboxArreglos( );
+        positivos.agregarEntero( 1 );
+        positivos.agregarEntero( 2 );
+        positivos.agregarEntero( 3 );
+        positivos.volverPositivos( );
+        assertTrue( positivos.estanEnterosOrdenados( ), "Si no había negativos, el arreglo debería seguir ordenado" );
+    }
+
+    @Test
+    void testOrganizarEnterosEstrategias( )
+    {
+        int[][] casos = new int[][]{ { 100000, -50, 50 }, { 100000, Integer.MIN_VALUE, Integer.MAX_VALUE }, { 1000, -1000000, 1000000 }, { 5000, 7, 7 } };
+        for( int[] caso : casos )
+        {
+            for( EstrategiaOrdenamiento estrategia : EstrategiaOrdenamiento.values( ) )
+            {
+                if( estrategia == EstrategiaOrdenamiento.CONTEO && ( long )caso[ 2 ] - caso[ 1 ] > 10000000 )
+                {
+                    continue;
+                }
+                SandboxArreglos sandbox = new SandboxArreglos( );
+                sandbox.generarEnteros( caso[ 0 ], caso[ 1 ], caso[ 2 ], 11L );
+                int[] esperados = sandbox.getCopiaEnteros( );
+                Arrays.sort( esperados );
+
+                sandbox.organizarEnteros( estrategia );
+                assertArrayEquals( esperados, sandbox.getCopiaEnteros( ), "Los enteros no quedaron organizados con la estrategia " + estrategia );
+                assertTrue( sandbox.estanEnterosOrdenados( ), "Los enteros deberían quedar marcados como ordenados" );
+            }
+        }
+    }
+
+    @Test
+    void testOrganizarEnterosReiniciadoVacio( )
+    {
+        sencillo.reiniciarArregloEnteros( new double[0] );
+        sencillo.organizarEnteros( );
+
+        assertEquals( 0, sencillo.getCantidadEnteros( ), "El arreglo debería seguir vacío" );
+        assertTrue( sencillo.estanEnterosOrdenados( ), "Un arreglo vacío está ordenado" );
+    }
+
+    @Test
+    void testOrganizarEnterosConteoRangoGrande( )
+    {
+        vacio.agregarEntero( Integer.MAX_VALUE );
+        vacio.agregarEntero( Integer.MIN_VALUE );
+        try
+        {
+            vacio.organizarEnteros( EstrategiaOrdenamiento.CONTEO );
+            fail( "Debería haberse lanzado una excepción porque el rango es demasiado grande" );
+        }
+        catch( IllegalArgumentException e )
+        {
+            assertFalse( vacio.estanEnterosOrdenados( ), "Los enteros no deberían quedar marcados como ordenados" );
+        }
+    }
+
+    @Test
+    void testReiniciarArregloEnterosStream( )
+    {
+        sencillo.reiniciarArregloEnteros( DoubleStream.of( 0.1, 1.2, 2.2, 3.4, 4.45, 5.49 ) );
+        assertArrayEquals( new int[]{ 0, 1, 2, 3, 4, 5 }, sencillo.getCopiaEnteros( ), "No se convirtieron correctamente los valores" );
+        assertEquals( 6, sencillo.getCapacidadEnteros( ), "Con un stream de tamaño conocido el arreglo debería crearse con ese tamaño" );
+
+        sencillo.reiniciarArregloEnteros( DoubleStream.iterate( 0.5, d -> d + 1 ).limit( 10000 ).filter( d -> d > 2 ) );
+        assertEquals( 9998, sencillo.getCantidadEnteros( ), "La nueva cantidad de enteros no es la correcta" );
+        assertEquals( 9999, sencillo.getCopiaEnteros( )[ 9997 ], "No se convirtieron correctamente los valores" );
+
+        vacio.reiniciarArregloEnteros( DoubleStream.of( 7.9, 8.1 ).iterator( ) );
+        assertArrayEquals( new int[]{ 7, 8 }, vacio.getCopiaEnteros( ), "No se convirtieron correctamente los valores" );
+    }
+
+    @Test
+    void testReiniciarArregloEnterosCanal( ) throws IOException
+    {
+        ByteBuffer bytes = ByteBuffer.allocate( 10000 * Double.BYTES ).order( ByteOrder.LITTLE_ENDIAN );
+        for( int i = 0; i < 10000; i++ )
+        {
+            bytes.putDouble( i + 0.75 );
+        }
+        sencillo.reiniciarArregloEnteros( Channels.newChannel( new ByteArrayInputStream( bytes.array( ) ) ) );
+        assertEquals( 10000, sencillo.getCantidadEnteros( ), "La nueva cantidad de enteros no es la correcta" );
+        assertEquals( 4321, sencillo.getCopiaEnteros( )[ 4321 ], "No se convirtieron correctamente los valores" );
+
+        Path archivo = Files.createTempFile( "decimales", ".bin" );
+        try
+        {
+            Files.write( archivo, bytes.array( ) );
+            SandboxArreglos directo = new SandboxArreglos( TipoAlmacenamiento.DIRECTO );
+            try( FileChannel canal = FileChannel.open( archivo ) )
+            {
+                directo.reiniciarArregloEnteros( canal );
+            }
+            assertEquals( 10000, directo.getCapacidadEnteros( ), "Con un archivo el arreglo debería crearse con el tamaño exacto" );
+            assertArrayEquals( sencillo.getCopiaEnteros( ), directo.getCopiaEnteros( ), "No se convirtieron correctamente los valores" );
+        }
+        finally
+        {
+            Files.delete( archivo );
+        }
+
+        try
+        {
+            vacio.reiniciarArregloEnteros( Channels.newChannel( new ByteArrayInputStream( new byte[Double.BYTES + 3] ) ) );
+            fail( "Debería haberse lanzado una excepción porque el canal terminó en medio de un valor" );
+        }
+        catch( IOException e )
+        {
+            assertEquals( 1, vacio.getCantidadEnteros( ), "Deberían quedar los valores leídos antes del error" );
+        }
+    }
+
+    @Test
+    void testVistaEnteros( )
+    {
+        for( TipoAlmacenamiento tipo : TipoAlmacenamiento.values( ) )
+        {
+            SandboxArreglos sandbox = new SandboxArreglos( tipo );
+            sandbox.agregarEnteros( new int[]{ 4, -2, 9, 1 }, 0, 4 );
+            IntBuffer vista = sandbox.getVistaEnteros( );
+
+            sandbox.agregarEntero( 3 );
+            sandbox.volverPositivos( );
+            sandbox.organizarEnteros( );
+            sandbox.eliminarEnteroPorPosicion( 0 );
+
+            assertTrue( vista.isReadOnly( ), "La vista debería ser de sólo lectura (" + tipo + ")" );
+            int[] valores = new int[vista.remaining( )];
+            vista.get( valores );
+            assertArrayEquals( new int[]{ 4, -2, 9, 1 }, valores, "Los cambios no deberían verse en la vista (" + tipo + ")" );
+            assertArrayEquals( new int[]{ 2, 3, 4, 9 }, sandbox.getCopiaEnteros( ), "Los enteros no son los esperados (" + tipo + ")" );
+        }
+    }
+
+    @Test
+    void testVistaCadenas( )
+    {
+        for( boolean diccionario : new boolean[]{ false, true } )
+        {
+            SandboxArreglos sandbox = new SandboxArreglos( );
+            if( diccionario )
+            {
+                sandbox.activarDiccionarioCadenas( );
+            }
+            sandbox.agregarCadena( "pera" );
+            sandbox.agregarCadena( "Manzana" );
+            sandbox.agregarCadena( "kiwi" );
+            List<String> vista = sandbox.getVistaCadenas( );
+
+            sandbox.agregarCadena( "uva" );
+            assertEquals( Arrays.asList( "pera", "Manzana", "kiwi" ), vista, "Agregar al final no debería cambiar la vista" );
+            sandbox.organizarCadenas( );
+            sandbox.eliminarCadena( "kiwi" );
+            sandbox.insertarCadenas( 0, new String[]{ "higo" } );
+
+            assertEquals( Arrays.asList( "pera", "Manzana", "kiwi" ), vista, "Los cambios no deberían verse en la vista" );
+            assertArrayEquals( new String[]{ "higo", "Manzana", "pera", "uva" }, sandbox.getCopiaCadenas( ), "Las cadenas no son las esperadas" );
+            try
+            {
+                vista.set( 0, "limón" );
+                fail( "No debería poderse modificar la vista" );
+            }
+            catch( UnsupportedOperationException e )
+            {
+                // Es lo esperado
+            }
+        }
+    }
+
+    @Test
+    void testContarAparicionesCadenaNula( )
+    {
+        SandboxArreglos sandbox = new SandboxArreglos( );
+        sandbox.agregarCadena( "a" );
+        sandbox.agregarCadena( "B" );
+
+        assertEquals( 0, sandbox.contarApariciones( ( String )null ), "Con las cadenas ordenadas, null no debería aparecer" );
+        assertEquals( 0, sandbox.buscarCadena( null ).length, "Con las cadenas ordenadas, null no debería encontrarse" );
+        sandbox.agregarCadena( "A" );
+        assertEquals( 0, sandbox.contarApariciones( ( String )null ), "Con las cadenas sin ordenar, null no debería aparecer" );
+        sandbox.activarDiccionarioCadenas( );
+        assertEquals( 0, sandbox.contarApariciones( ( String )null ), "En modo diccionario, null no debería aparecer" );
+        assertEquals( 0, sandbox.buscarCadena( null ).length, "En modo diccionario, null no debería encontrarse" );
+    }
+
+    @Test
+    void testModoParaleloSinPool( )
+    {
+        try
+        {
+            vacio.activarModoParalelo( 1000, null );
+            fail( "No debería poderse activar el modo paralelo sin un pool" );
+        }
+        catch( NullPointerException e )
+        {
+            assertFalse( vacio.estaEnModoParalelo( ), "El modo paralelo no debería quedar activo" );
+        }
+    }
+
+    @Test
+    void testOrganizarCadenasConNull( )
+    {
+        for( boolean diccionario : new boolean[]{ false, true } )
+        {
+            SandboxArreglos sandbox = new SandboxArreglos( );
+            if( diccionario )
+            {
+                sandbox.activarDiccionarioCadenas( );
+            }
+            sandbox.agregarCadena( "b" );
+            sandbox.agregarCadena( null );
+            try
+            {
+                sandbox.organizarCadenas( );
+                fail( "No debería poderse organizar un arreglo con una cadena null (diccionario: " + diccionario + ")" );
+            }
+            catch( NullPointerException e )
+            {
+                assertArrayEquals( new String[]{ "b", null }, sandbox.getCopiaCadenas( ), "Las cadenas no deberían cambiar (diccionario: " + diccionario + ")" );
+            }
+
+            // Con una sola cadena null no hay nada que comparar, así que organizar funciona, y agregar después no debe fallar
+            SandboxArreglos soloNull = new SandboxArreglos( );
+            if( diccionario )
+            {
+                soloNull.activarDiccionarioCadenas( );
+            }
+            soloNull.agregarCadena( null );
+            soloNull.organizarCadenas( );
+            soloNull.agregarCadena( "a" );
+            assertArrayEquals( new String[]{ null, "a" }, soloNull.getCopiaCadenas( ), "Las cadenas no son las esperadas (diccionario: " + diccionario + ")" );
+        }
+    }
+
 }
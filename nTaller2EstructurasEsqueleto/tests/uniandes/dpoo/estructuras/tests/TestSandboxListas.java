@@ -1,19 +1,30 @@
 package uniandes.dpoo.estructuras.tests;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.DoubleStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import uniandes.dpoo.estructuras.logica.HistogramaEnteros;
 import uniandes.dpoo.estructuras.logica.SandboxListas;
+import uniandes.dpoo.estructuras.logica.TipoLista;
 
 class TestSandboxListas
 {
@@ -615,6 +626,15 @@ class TestSandboxListas
         assertTrue( 10 >= maximo, "El mayor valor del rango no es el correcto: " + minimo + " a " + maximo );
     }
 
+    @Test
+    void testGenerarEnterosSemilla( )
+    {
+        sencillo.generarEnteros( 1000, -10, 10, 1234L );
+        vacio.generarEnteros( 1000, -10, 10, 1234L );
+
+        assertEquals( sencillo.getCopiaEnteros( ), vacio.getCopiaEnteros( ), "Con la misma semilla deberían generarse los mismos valores" );
+    }
+
     @Test
     void testGenerarEnterosGrande( )
     {
@@ -659,4 +679,544 @@ class TestSandboxListas
             fail( "Los valores no están bien distribuidos" );
     }
 
+    @Test
+    void testReiniciarArregloEnterosStream( )
+    {
+        sencillo.reiniciarArregloEnteros( DoubleStream.of( 0.1, 1.2, -2.7, 3.4 ) );
+        assertEquals( Arrays.asList( 0, 1, -2, 3 ), sencillo.getCopiaEnteros( ), "No se convirtieron correctamente los valores" );
+
+        vacio.reiniciarArregloEnteros( DoubleStream.iterate( 0.5, d -> d + 1 ).limit( 10000 ).iterator( ) );
+        assertEquals( 10000, vacio.getCantidadEnteros( ), "La nueva cantidad de enteros no es la correcta" );
+        assertEquals( 9999, vacio.getCopiaEnteros( ).get( 9999 ), "No se convirtieron correctamente los valores" );
+    }
+
+    @Test
+    void testReiniciarArregloEnterosCanal( ) throws IOException
+    {
+        ByteBuffer bytes = ByteBuffer.allocate( 5000 * Double.BYTES ).order( ByteOrder.LITTLE_ENDIAN );
+        for( int i = 0; i < 5000; i++ )
+        {
+            bytes.putDouble( i + 0.5 );
+        }
+        sencillo.reiniciarArregloEnteros( Channels.newChannel( new ByteArrayInputStream( bytes.array( ) ) ) );
+
+        assertEquals( 5000, sencillo.getCantidadEnteros( ), "La nueva cantidad de enteros no es la correcta" );
+        assertEquals( 4999, sencillo.getCopiaEnteros( ).get( 4999 ), "No se convirtieron correctamente los valores" );
+    }
+
+    /**
+     * Prueba de regresión de desempeño: organizar un millón de enteros no puede tomar más del límite configurado con la propiedad del sistema
+     * 'limiteOrdenamientoMs' (por defecto 2000 milisegundos).
+     */
+    @Test
+    void testOrganizarEnterosDesempeno( )
+    {
+        long limite = Long.getLong( "limiteOrdenamientoMs", 2000 );
+        sencillo.generarEnteros( 1000000, Integer.MIN_VALUE, Integer.MAX_VALUE, 17L );
+
+        long inicio = System.nanoTime( );
+        sencillo.organizarEnteros( );
+        long milisegundos = ( System.nanoTime( ) - inicio ) / 1000000;
+
+        assertTrue( milisegundos <= limite, "Organizar un millón de enteros tomó " + milisegundos + " ms, más del límite de " + limite + " ms" );
+        int[] organizados = sencillo.getEnterosComoArreglo( );
+        for( int i = 1; i < organizados.length; i++ )
+        {
+            assertTrue( organizados[ i - 1 ] >= organizados[ i ], "Los enteros no quedaron organizados de mayor a menor" );
+        }
+    }
+
+    @Test
+    void testTipoListaCadenas( )
+    {
+        assertEquals( TipoLista.ENLAZADA, sencillo.getTipoListaCadenas( ), "Por defecto la lista de cadenas debería ser enlazada" );
+        List<String> cadenas = sencillo.getCopiaCadenas( );
+
+        sencillo.cambiarTipoListaCadenas( TipoLista.ARREGLO );
+        assertEquals( TipoLista.ARREGLO, sencillo.getTipoListaCadenas( ), "El tipo de la lista de cadenas no cambió" );
+        assertEquals( cadenas, sencillo.getCopiaCadenas( ), "Las cadenas no deberían cambiar al cambiar el tipo de lista" );
+
+        SandboxListas arreglo = new SandboxListas( TipoLista.ARREGLO );
+        assertEquals( TipoLista.ARREGLO, arreglo.getTipoListaCadenas( ), "El tipo de la lista de cadenas no es el indicado" );
+    }
+
+    @Test
+    void testOrganizarCadenasGrande( )
+    {
+        for( TipoLista tipo : TipoLista.values( ) )
+        {
+            SandboxListas sandbox = new SandboxListas( tipo );
+            for( int i = 0; i < 50000; i++ )
+            {
+                sandbox.agregarCadena( "cadena" + ( ( i * 7919 ) % 50000 ) );
+            }
+            sandbox.organizarCadenas( );
+
+            List<String> organizadas = sandbox.getCopiaCadenas( );
+            for( int i = 1; i < organizadas.size( ); i++ )
+            {
+                assertTrue( organizadas.get( i - 1 ).compareTo( organizadas.get( i ) ) <= 0, "Las cadenas no quedaron organizadas con la lista " + tipo );
+            }
+        }
+    }
+
+    @Test
+    void testContarEnterosRepetidosValoresGrandes( )
+    {
+        SandboxListas sandbox = new SandboxListas( );
+        int[] valores = new int[]{ 1000, -1000, 1000, 128, 128, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, 5 };
+        for( int valor : valores )
+        {
+            sandbox.agregarEntero( valor );
+        }
+
+        assertEquals( 3, sandbox.contarEnterosRepetidos( ), "No contó correctamente los enteros repetidos por fuera del rango [-128, 127]" );
+    }
+
+    @Test
+    void testGetEnterosRepetidos( )
+    {
+        // Se usa un sandbox propio porque otras pruebas modifican el arreglo con el que se construye 'sencillo'
+        SandboxListas sandbox = new SandboxListas( );
+        for( int valor : new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 } )
+        {
+            sandbox.agregarEntero( valor );
+        }
+        HistogramaEnteros repetidos = sandbox.getEnterosRepetidos( );
+
+        assertArrayEquals( new int[]{ 6, 7, 8, 9 }, repetidos.getValores( ), "Los valores repetidos no son los correctos" );
+        assertEquals( 3, repetidos.getCantidad( 6 ), "La cantidad de veces que aparece el valor repetido no es la correcta" );
+        assertEquals( 2, repetidos.getCantidad( 9 ), "La cantidad de veces que aparece el valor repetido no es la correcta" );
+        assertEquals( 0, repetidos.getCantidad( 5 ), "Un valor que aparece una sola vez no debería estar entre los repetidos" );
+        assertEquals( 0, sinRepetidos.getEnterosRepetidos( ).getCantidadValores( ), "No deberían haber valores repetidos" );
+        assertEquals( 0, vacio.getEnterosRepetidos( ).getCantidadValores( ), "No deberían haber valores repetidos" );
+    }
+
+    /**
+     * Verifica que contar los repetidos de un millón de enteros no tome tiempo cuadrático. El límite se puede cambiar con la propiedad del sistema
+     * limiteRepetidosMs.
+     */
+    @Test
+    void testContarEnterosRepetidosDesempeno( )
+    {
+        long limite = Long.getLong( "limiteRepetidosMs", 2000 );
+        SandboxListas sandbox = new SandboxListas( );
+        sandbox.generarEnteros( 1000000, 0, 999999, 17L );
+
+        long inicio = System.nanoTime( );
+        int repetidos = sandbox.contarEnterosRepetidos( );
+        long milisegundos = ( System.nanoTime( ) - inicio ) / 1000000;
+
+        assertTrue( milisegundos <= limite, "Contar los repetidos de un millón de enteros tomó " + milisegundos + " ms, más del límite de " + limite + " ms" );
+        assertEquals( sandbox.getEnterosRepetidos( ).getCantidadValores( ), repetidos, "La cantidad de repetidos no coincide con los valores repetidos" );
+    }
+
+    /**
+     * Verifica que las consultas con estadísticas incrementales den lo mismo que recorriendo la lista
+     * @param sandbox El sandbox con las estadísticas activas
+     */
+    private void verificarEstadisticas( SandboxListas sandbox )
+    {
+        SandboxListas sinEstadisticas = new SandboxListas( );
+        for( int valor : sandbox.getEnterosComoArreglo( ) )
+        {
+            sinEstadisticas.agregarEntero( valor );
+        }
+        assertArrayEquals( sinEstadisticas.calcularRangoEnteros( ), sandbox.calcularRangoEnteros( ), "El rango no es el correcto" );
+        assertEquals( sinEstadisticas.calcularSumaEnteros( ), sandbox.calcularSumaEnteros( ), "La suma no es la correcta" );
+        assertEquals( sinEstadisticas.contarEnterosRepetidos( ), sandbox.contarEnterosRepetidos( ), "La cantidad de repetidos no es la correcta" );
+        for( int valor = -10; valor <= 10; valor++ )
+        {
+            assertEquals( sinEstadisticas.contarApariciones( valor ), sandbox.contarApariciones( valor ), "La cantidad de apariciones de " + valor + " no es la correcta" );
+        }
+    }
+
+    @Test
+    void testEstadisticasEnteros( )
+    {
+        SandboxListas sandbox = new SandboxListas( );
+        for( int valor : new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 } )
+        {
+            sandbox.agregarEntero( valor );
+        }
+        sandbox.activarEstadisticasEnteros( );
+        assertTrue( sandbox.estanEstadisticasEnterosActivas( ), "Las estadísticas deberían estar activas" );
+        assertArrayEquals( new int[]{ -5, 9 }, sandbox.calcularRangoEnteros( ), "El rango no es el correcto" );
+        assertEquals( 67, sandbox.calcularSumaEnteros( ), "La suma no es la correcta" );
+        verificarEstadisticas( sandbox );
+
+        sandbox.eliminarEntero( 9 );
+        sandbox.eliminarEntero( -5 );
+        assertArrayEquals( new int[]{ -4, 8 }, sandbox.calcularRangoEnteros( ), "El rango debería recalcularse al eliminar los extremos" );
+        verificarEstadisticas( sandbox );
+
+        sandbox.insertarEntero( 10, 3 );
+        sandbox.agregarEntero( -10 );
+        sandbox.eliminarEnteroPorPosicion( 0 );
+        sandbox.eliminarEntero( 100 );
+        verificarEstadisticas( sandbox );
+
+        sandbox.volverPositivos( );
+        assertArrayEquals( new int[]{ 0, 10 }, sandbox.calcularRangoEnteros( ), "El rango no es el correcto después de volver positivos los valores" );
+        verificarEstadisticas( sandbox );
+
+        sandbox.reiniciarArregloEnteros( new double[]{ 1.5, 1.2, -3.7 } );
+        verificarEstadisticas( sandbox );
+
+        while( sandbox.getCantidadEnteros( ) > 0 )
+        {
+            sandbox.eliminarEnteroPorPosicion( 0 );
+        }
+        assertEquals( 0, sandbox.calcularRangoEnteros( ).length, "Una lista vacía no tiene rango" );
+        sandbox.agregarEntero( 4 );
+        verificarEstadisticas( sandbox );
+
+        sandbox.desactivarEstadisticasEnteros( );
+        assertFalse( sandbox.estanEstadisticasEnterosActivas( ), "Las estadísticas no deberían estar activas" );
+        assertEquals( 1, sandbox.contarApariciones( 4 ), "La cantidad de apariciones no es la correcta" );
+    }
+
+    @Test
+    void testInsertarYEliminarCadenaPorPosicion( )
+    {
+        for( TipoLista tipo : TipoLista.values( ) )
+        {
+            SandboxListas sandbox = new SandboxListas( tipo );
+            sandbox.agregarCadena( "b" );
+            sandbox.insertarCadena( "a", -3 );
+            sandbox.insertarCadena( "d", 10 );
+            sandbox.insertarCadena( "c", 2 );
+            assertEquals( Arrays.asList( "a", "b", "c", "d" ), sandbox.getCopiaCadenas( ), "Las cadenas no quedaron en las posiciones correctas con la lista " + tipo );
+
+            sandbox.eliminarCadenaPorPosicion( 1 );
+            sandbox.eliminarCadenaPorPosicion( 7 );
+            sandbox.eliminarCadenaPorPosicion( -1 );
+            assertEquals( Arrays.asList( "a", "c", "d" ), sandbox.getCopiaCadenas( ), "No se eliminó la cadena correcta con la lista " + tipo );
+        }
+    }
+
+    /**
+     * Verifica que las operaciones por posición sobre un millón de cadenas con la lista por bloques no recorran la lista. El límite se puede cambiar con la
+     * propiedad del sistema limiteListaBloquesMs.
+     */
+    @Test
+    void testListaCadenasPorBloquesDesempeno( )
+    {
+        long limite = Long.getLong( "limiteListaBloquesMs", 2000 );
+        SandboxListas sandbox = new SandboxListas( TipoLista.BLOQUES );
+        for( int i = 0; i < 1000000; i++ )
+        {
+            sandbox.agregarCadena( "cadena" + ( i % 1000 ) );
+        }
+
+        long inicio = System.nanoTime( );
+        for( int i = 0; i < 20000; i++ )
+        {
+            sandbox.insertarCadena( "nueva", ( int )( ( i * 7919L ) % sandbox.getCantidadCadenas( ) ) );
+        }
+        sandbox.organizarCadenas( );
+        long milisegundos = ( System.nanoTime( ) - inicio ) / 1000000;
+
+        assertTrue( milisegundos <= limite, "Las operaciones sobre un millón de cadenas tomaron " + milisegundos + " ms, más del límite de " + limite + " ms" );
+        assertEquals( 1020000, sandbox.getCantidadCadenas( ), "La cantidad de cadenas no es la correcta" );
+    }
+
+    @Test
+    void testVistaEnteros( )
+    {
+        SandboxListas sandbox = new SandboxListas( );
+        sandbox.agregarEntero( 4 );
+        sandbox.agregarEntero( -2 );
+        sandbox.agregarEntero( 9 );
+        List<Integer> vista = sandbox.getVistaEnteros( );
+        IntBuffer buffer = sandbox.getVistaEnterosComoBuffer( );
+
+        sandbox.agregarEntero( 3 );
+        sandbox.volverPositivos( );
+        sandbox.organizarEnteros( );
+
+        assertEquals( Arrays.asList( 4, -2, 9 ), vista, "Los cambios no deberían verse en la vista" );
+        assertEquals( 3, buffer.remaining( ), "El buffer no tiene la cantidad de valores esperada" );
+        assertEquals( -2, buffer.get( 1 ), "Los cambios no deberían verse en el buffer" );
+        assertTrue( sandbox.compararArregloEnteros( new int[]{ 9, 4, 3, 2 } ), "Los enteros no son los esperados" );
+    }
+
+    @Test
+    void testVistaCadenas( )
+    {
+        for( TipoLista tipo : TipoLista.values( ) )
+        {
+            SandboxListas sandbox = new SandboxListas( tipo );
+            sandbox.agregarCadena( "pera" );
+            sandbox.agregarCadena( "manzana" );
+            List<String> vista = sandbox.getVistaCadenas( );
+
+            sandbox.agregarCadena( "kiwi" );
+            sandbox.organizarCadenas( );
+            sandbox.eliminarCadenaPorPosicion( 0 );
+
+            assertEquals( Arrays.asList( "pera", "manzana" ), vista, "Los cambios no deberían verse en la vista (" + tipo + ")" );
+            assertEquals( Arrays.asList( "manzana", "pera" ), sandbox.getCopiaCadenas( ), "Las cadenas no son las esperadas (" + tipo + ")" );
+            assertEquals( tipo, sandbox.getTipoListaCadenas( ), "La copia debería conservar el tipo de lista" );
+            try
+            {
+                vista.add( "uva" );
+                fail( "No debería poderse modificar la vista" );
+            }
+            catch( UnsupportedOperationException e )
+            {
+                // Es lo esperado
+            }
+        }
+    }
+
+    @Test
+    void testEliminarYRetenerEnteros( )
+    {
+        int[] valores = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 };
+        for( boolean estadisticas : new boolean[]{ false, true } )
+        {
+            SandboxListas sandbox = new SandboxListas( );
+            for( int valor : valores )
+            {
+                sandbox.agregarEntero( valor );
+            }
+            if( estadisticas )
+            {
+                sandbox.activarEstadisticasEnteros( );
+            }
+
+            assertEquals( 0, sandbox.eliminarEnteros( ), "Sin valores no debería eliminarse nada" );
+            assertEquals( 0, sandbox.eliminarEnteros( 100, -100 ), "No debería eliminarse nada" );
+            assertEquals( 6, sandbox.eliminarEnteros( 6, 9, 1000000, -5, 9 ), "La cantidad de eliminados no es la correcta" );
+            assertTrue( sandbox.compararArregloEnteros( new int[]{ 8, 7, 5, 4, 3, 2, 1, 0, -2, -3, -4, 7, 8 } ), "Los enteros no son los esperados" );
+            if( estadisticas )
+            {
+                verificarEstadisticas( sandbox );
+            }
+
+            assertEquals( 8, sandbox.retenerEnteros( 7, 8, -3, 50 ), "La cantidad de eliminados no es la correcta" );
+            assertTrue( sandbox.compararArregloEnteros( new int[]{ 8, 7, -3, 7, 8 } ), "Los enteros no son los esperados" );
+            if( estadisticas )
+            {
+                verificarEstadisticas( sandbox );
+            }
+
+            assertEquals( 5, sandbox.retenerEnteros( ), "Sin valores deberían eliminarse todos los enteros" );
+            assertEquals( 0, sandbox.getCantidadEnteros( ), "La lista debería quedar vacía" );
+        }
+    }
+
+    @Test
+    void testReemplazarEnteros( )
+    {
+        SandboxListas sandbox = new SandboxListas( );
+        for( int valor : new int[]{ 3, -1, 4, -1, 5 } )
+        {
+            sandbox.agregarEntero( valor );
+        }
+        sandbox.activarEstadisticasEnteros( );
+
+        sandbox.reemplazarEnteros( n -> n * 2 );
+        assertTrue( sandbox.compararArregloEnteros( new int[]{ 6, -2, 8, -2, 10 } ), "Los enteros no son los esperados" );
+        verificarEstadisticas( sandbox );
+
+        sandbox.reemplazarEnteros( Math::abs );
+        assertTrue( sandbox.compararArregloEnteros( new int[]{ 6, 2, 8, 2, 10 } ), "Los enteros no son los esperados" );
+        verificarEstadisticas( sandbox );
+    }
+
+    /**
+     * Verifica que eliminar muchos valores diferentes a la vez tome un solo recorrido de la lista. El límite en milisegundos se puede cambiar con la propiedad
+     * limiteEliminarEnterosMs.
+     */
+    @Test
+    void testEliminarEnterosDesempeno( )
+    {
+        long limite = Long.getLong( "limiteEliminarEnterosMs", 2000 );
+        SandboxListas sandbox = new SandboxListas( );
+        sandbox.generarEnteros( 1000000, 0, 999999, 23L );
+        int[] eliminar = new int[100000];
+        for( int i = 0; i < eliminar.length; i++ )
+        {
+            eliminar[ i ] = i * 10;
+        }
+
+        long inicio = System.nanoTime( );
+        int eliminados = sandbox.eliminarEnteros( eliminar );
+        long milisegundos = ( System.nanoTime( ) - inicio ) / 1000000;
+
+        assertTrue( milisegundos <= limite, "Eliminar cien mil valores de un millón de enteros tomó " + milisegundos + " ms, más del límite de " + limite + " ms" );
+        assertEquals( 1000000 - eliminados, sandbox.getCantidadEnteros( ), "La cantidad de enteros no es la correcta" );
+        for( int valor : sandbox.getEnterosComoArreglo( ) )
+        {
+            assertTrue( valor % 10 != 0, "Quedó un valor que debía eliminarse: " + valor );
+        }
+    }
+
+    @Test
+    void testHuecoEnteros( )
+    {
+        SandboxListas sandbox = new SandboxListas( );
+        for( int valor : new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 } )
+        {
+            sandbox.agregarEntero( valor );
+        }
+        sandbox.activarEstadisticasEnteros( );
+        sandbox.activarHuecoEnteros( );
+        assertTrue( sandbox.estaHuecoEnterosActivo( ), "El modo de hueco debería estar activo" );
+
+        sandbox.insertarEntero( 10, 3 );
+        sandbox.insertarEntero( 11, 4 );
+        sandbox.eliminarEnteroPorPosicion( 2 );
+        sandbox.insertarEntero( 12, 100 );
+        sandbox.insertarEntero( 13, -1 );
+        sandbox.eliminarEnteroPorPosicion( 5 );
+        assertTrue( sandbox.compararArregloEnteros( new int[]{ 13, 9, 8, 10, 11, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9, 12 } ),
+                "Los enteros no son los esperados" );
+        verificarEstadisticas( sandbox );
+
+        sandbox.organizarEnteros( );
+        assertEquals( 13, sandbox.getEnterosComoArreglo( )[ 0 ], "Los enteros no quedaron organizados" );
+        sandbox.desactivarHuecoEnteros( );
+        assertFalse( sandbox.estaHuecoEnterosActivo( ), "El modo de hueco debería estar inactivo" );
+    }
+
+    /**
+     * Verifica que con el modo de hueco las inserciones y eliminaciones agrupadas cerca de una posición de un millón de enteros no desplacen toda la lista. El
+     * límite se puede cambiar con la propiedad del sistema limiteHuecoMs.
+     */
+    @Test
+    void testHuecoEnterosDesempeno( )
+    {
+        long limite = Long.getLong( "limiteHuecoMs", 2000 );
+        SandboxListas sandbox = new SandboxListas( );
+        sandbox.generarEnteros( 1000000, 0, 999, 29L );
+        sandbox.activarHuecoEnteros( );
+
+        long inicio = System.nanoTime( );
+        int cursor = 500000;
+        for( int i = 0; i < 200000; i++ )
+        {
+            if( i % 4 == 3 )
+            {
+                sandbox.eliminarEnteroPorPosicion( --cursor );
+            }
+            else
+            {
+                sandbox.insertarEntero( -1, cursor++ );
+            }
+            if( i % 1000 == 999 )
+            {
+                // Cada cierto tiempo el cursor salta a una posición cercana
+                cursor -= 200;
+            }
+        }
+        long milisegundos = ( System.nanoTime( ) - inicio ) / 1000000;
+
+        assertTrue( milisegundos <= limite, "Las inserciones agrupadas en un millón de enteros tomaron " + milisegundos + " ms, más del límite de " + limite + " ms" );
+        assertEquals( 1100000, sandbox.getCantidadEnteros( ), "La cantidad de enteros no es la correcta" );
+    }
+
+    @Test
+    void testModoParalelo( )
+    {
+        SandboxListas secuencial = new SandboxListas( );
+        SandboxListas paralelo = new SandboxListas( );
+        assertFalse( paralelo.estaEnModoParalelo( ), "El modo paralelo no debería estar activo por defecto" );
+
+        ForkJoinPool pool = new ForkJoinPool( 4 );
+        try
+        {
+            paralelo.activarModoParalelo( 1000, pool );
+            assertTrue( paralelo.estaEnModoParalelo( ), "El modo paralelo debería estar activo" );
+            secuencial.generarEnteros( 200000, -1000, 1000, 31L );
+            paralelo.generarEnteros( 200000, -1000, 1000, 31L );
+            assertArrayEquals( secuencial.getEnterosComoArreglo( ), paralelo.getEnterosComoArreglo( ), "El resultado en paralelo debería ser igual al secuencial" );
+
+            paralelo.desactivarModoParalelo( );
+            assertFalse( paralelo.estaEnModoParalelo( ), "El modo paralelo debería estar inactivo" );
+        }
+        finally
+        {
+            pool.shutdown( );
+        }
+
+        try
+        {
+            paralelo.activarModoParalelo( 1000, null );
+            fail( "No debería poderse activar el modo paralelo sin un pool" );
+        }
+        catch( NullPointerException e )
+        {
+            assertFalse( paralelo.estaEnModoParalelo( ), "El modo paralelo no debería quedar activo" );
+        }
+    }
+
+    @Test
+    void testVistaCadenasAgregarAlFinal( )
+    {
+        for( TipoLista tipo : new TipoLista[]{ TipoLista.ARREGLO, TipoLista.BLOQUES } )
+        {
+            SandboxListas sandbox = new SandboxListas( tipo );
+            sandbox.agregarCadena( "a" );
+            sandbox.agregarCadena( "b" );
+            List<String> primera = sandbox.getVistaCadenas( );
+            sandbox.agregarCadena( "c" );
+            List<String> segunda = sandbox.getVistaCadenas( );
+            sandbox.agregarCadena( "d" );
+            sandbox.eliminarCadenaPorPosicion( 3 );
+            sandbox.insertarCadena( "x", 3 );
+
+            assertEquals( Arrays.asList( "a", "b" ), primera, "Agregar al final no debería cambiar la vista (" + tipo + ")" );
+            assertEquals( Arrays.asList( "a", "b", "c" ), segunda, "Los cambios después de la vista no deberían verse (" + tipo + ")" );
+            sandbox.insertarCadena( "y", 1 );
+            assertEquals( Arrays.asList( "a", "b" ), primera, "Insertar antes del final no debería cambiar la vista (" + tipo + ")" );
+            assertEquals( Arrays.asList( "a", "b", "c" ), segunda, "Insertar antes del final no debería cambiar la vista (" + tipo + ")" );
+            assertEquals( Arrays.asList( "a", "y", "b", "c", "x" ), sandbox.getCopiaCadenas( ), "Las cadenas no son las esperadas (" + tipo + ")" );
+            try
+            {
+                primera.get( 2 );
+                fail( "La vista no debería tener la posición 2" );
+            }
+            catch( IndexOutOfBoundsException e )
+            {
+                // Es lo esperado
+            }
+        }
+    }
+
+    /**
+     * Verifica que pedir una vista de las cadenas cada cierto número de cadenas agregadas no copie la lista cada vez. El límite se puede cambiar con la
+     * propiedad del sistema limiteVistaCadenasMs.
+     */
+    @Test
+    void testVistaCadenasDesempeno( )
+    {
+        long limite = Long.getLong( "limiteVistaCadenasMs", 2000 );
+        for( TipoLista tipo : new TipoLista[]{ TipoLista.ARREGLO, TipoLista.BLOQUES } )
+        {
+            SandboxListas sandbox = new SandboxListas( tipo );
+            for( int i = 0; i < 1000000; i++ )
+            {
+                sandbox.agregarCadena( "cadena" );
+            }
+
+            long inicio = System.nanoTime( );
+            List<String> vista = null;
+            for( int i = 0; i < 100000; i++ )
+            {
+                if( i % 100 == 0 )
+                {
+                    vista = sandbox.getVistaCadenas( );
+                }
+                sandbox.agregarCadena( "nueva" );
+            }
+            long milisegundos = ( System.nanoTime( ) - inicio ) / 1000000;
+
+            assertTrue( milisegundos <= limite, "Agregar cadenas pidiendo vistas tomó " + milisegundos + " ms, más del límite de " + limite + " ms (" + tipo + ")" );
+            assertEquals( 1099900, vista.size( ), "La última vista no tiene la cantidad de cadenas esperada (" + tipo + ")" );
+        }
+    }
+
 }
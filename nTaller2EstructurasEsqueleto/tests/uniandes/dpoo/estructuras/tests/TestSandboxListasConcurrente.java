@@ -0,0 +1,172 @@
+package uniandes.dpoo.estructuras.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import uniandes.dpoo.estructuras.logica.SandboxListasConcurrente;
+
+class TestSandboxListasConcurrente
+{
+    @Test
+    void testSegmentos( )
+    {
+        assertEquals( 4, new SandboxListasConcurrente( 3 ).getCantidadSegmentos( ), "La cantidad de segmentos debería redondearse a una potencia de 2" );
+        assertEquals( 1, new SandboxListasConcurrente( 1 ).getCantidadSegmentos( ), "La cantidad de segmentos no es la correcta" );
+        try
+        {
+            new SandboxListasConcurrente( 0 );
+            fail( "No debería poderse crear una lista sin segmentos" );
+        }
+        catch( IllegalArgumentException e )
+        {
+            // Es lo esperado
+        }
+    }
+
+    @Test
+    void testOperacionesEnUnHilo( )
+    {
+        SandboxListasConcurrente sandbox = new SandboxListasConcurrente( 8 );
+        int[] valores = new int[]{ 9, 8, 7, 6, 5, 4, 3, 2, 1, 0, 6, -2, -3, -4, -5, 6, 7, 8, 9 };
+        for( int valor : valores )
+        {
+            sandbox.agregarEntero( valor );
+        }
+
+        assertEquals( valores.length, sandbox.getCantidadEnteros( ), "La cantidad de enteros no es la correcta" );
+        assertArrayEquals( valores, sandbox.getEnterosComoArreglo( ), "Los valores de un mismo hilo deberían conservar su orden" );
+        assertEquals( 3, sandbox.contarApariciones( 6 ), "La cantidad de apariciones no es la correcta" );
+        assertEquals( 0, sandbox.contarApariciones( 100 ), "La cantidad de apariciones no es la correcta" );
+
+        sandbox.eliminarEntero( 6 );
+        assertEquals( 0, sandbox.contarApariciones( 6 ), "No se eliminó el valor" );
+        assertEquals( valores.length - 3, sandbox.getCantidadEnteros( ), "La cantidad de enteros no es la correcta" );
+
+        sandbox.organizarEnteros( );
+        assertArrayEquals( new int[]{ 9, 9, 8, 8, 7, 7, 5, 4, 3, 2, 1, 0, -2, -3, -4, -5 }, sandbox.getEnterosComoArreglo( ), "Los enteros no quedaron organizados" );
+    }
+
+    @Test
+    void testVariosHilos( ) throws Exception
+    {
+        int hilos = 8;
+        int porHilo = 50000;
+        SandboxListasConcurrente sandbox = new SandboxListasConcurrente( 4 );
+        ExecutorService ejecutor = Executors.newFixedThreadPool( hilos + 1 );
+        try
+        {
+            AtomicBoolean terminado = new AtomicBoolean( );
+            // Un lector cuenta mientras los demás hilos agregan: el conteo nunca puede disminuir porque nadie elimina
+            Future<?> lector = ejecutor.submit( ( ) -> {
+                int anterior = 0;
+                while( !terminado.get( ) )
+                {
+                    int actual = sandbox.contarApariciones( 7 );
+                    assertTrue( actual >= anterior, "El conteo disminuyó de " + anterior + " a " + actual );
+                    anterior = actual;
+                }
+            } );
+            List<Future<?>> escritores = new ArrayList<Future<?>>( );
+            for( int h = 0; h < hilos; h++ )
+            {
+                int hilo = h;
+                escritores.add( ejecutor.submit( ( ) -> {
+                    for( int i = 0; i < porHilo; i++ )
+                    {
+                        sandbox.agregarEntero( i % 10 == 7 ? 7 : hilo * porHilo + i );
+                    }
+                } ) );
+            }
+            for( Future<?> escritor : escritores )
+            {
+                escritor.get( );
+            }
+            terminado.set( true );
+            lector.get( );
+        }
+        finally
+        {
+            ejecutor.shutdown( );
+        }
+
+        assertEquals( hilos * porHilo, sandbox.getCantidadEnteros( ), "Se perdieron valores" );
+        assertEquals( hilos * porHilo / 10, sandbox.contarApariciones( 7 ), "La cantidad de apariciones no es la correcta" );
+
+        // Los valores de cada hilo deberían estar en el orden en que el hilo los agregó
+        int[] ultimoPorHilo = new int[hilos];
+        Arrays.fill( ultimoPorHilo, -1 );
+        for( int valor : sandbox.getEnterosComoArreglo( ) )
+        {
+            if( valor != 7 )
+            {
+                int hilo = valor / porHilo;
+                assertTrue( valor > ultimoPorHilo[ hilo ], "Los valores del hilo " + hilo + " no conservaron su orden" );
+                ultimoPorHilo[ hilo ] = valor;
+            }
+        }
+
+        sandbox.eliminarEntero( 7 );
+        sandbox.organizarEnteros( );
+        int[] organizados = sandbox.getEnterosComoArreglo( );
+        assertEquals( hilos * porHilo * 9 / 10, organizados.length, "La cantidad de enteros no es la correcta" );
+        for( int i = 1; i < organizados.length; i++ )
+        {
+            assertTrue( organizados[ i - 1 ] >= organizados[ i ], "Los enteros no quedaron organizados de mayor a menor" );
+        }
+    }
+
+    /**
+     * Agrega cuatro millones de enteros repartidos entre 1, 2, 4, 8, 16 y 32 hilos. Cada ronda debe terminar dentro del límite, que se puede cambiar con la
+     * propiedad del sistema limiteConcurrenteMs. La escalabilidad depende de la cantidad de procesadores, así que sólo se verifica el límite.
+     */
+    @Test
+    void testAgregarVariosHilosDesempeno( ) throws Exception
+    {
+        long limite = Long.getLong( "limiteConcurrenteMs", 2000 );
+        int total = 1 << 22;
+        for( int hilos = 1; hilos <= 32; hilos *= 2 )
+        {
+            SandboxListasConcurrente sandbox = new SandboxListasConcurrente( );
+            int porHilo = total / hilos;
+            ExecutorService ejecutor = Executors.newFixedThreadPool( hilos );
+            try
+            {
+                long inicio = System.nanoTime( );
+                List<Future<?>> tareas = new ArrayList<Future<?>>( );
+                for( int h = 0; h < hilos; h++ )
+                {
+                    tareas.add( ejecutor.submit( ( ) -> {
+                        for( int i = 0; i < porHilo; i++ )
+                        {
+                            sandbox.agregarEntero( i );
+                        }
+                    } ) );
+                }
+                for( Future<?> tarea : tareas )
+                {
+                    tarea.get( );
+                }
+                long milisegundos = ( System.nanoTime( ) - inicio ) / 1000000;
+
+                assertTrue( milisegundos <= limite, "Agregar " + total + " enteros con " + hilos + " hilos tomó " + milisegundos + " ms, más del límite de " + limite + " ms" );
+                assertEquals( total, sandbox.getCantidadEnteros( ), "Se perdieron valores con " + hilos + " hilos" );
+            }
+            finally
+            {
+                ejecutor.shutdown( );
+            }
+        }
+    }
+}